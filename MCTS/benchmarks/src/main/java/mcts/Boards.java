@@ -0,0 +1,42 @@
+package mcts;
+
+/**
+ * Positions shared by the benchmarks, picked by name through a JMH @Param
+ */
+final class Boards {
+
+	private Boards() {
+	}
+
+	/**
+	 * @param name "empty", "opening" or "midgame"
+	 * @return a new TicTacToe with the named position
+	 * @throws IllegalArgumentException if the name is unknown
+	 */
+	static TicTacToe ticTacToe(String name) throws IllegalArgumentException {
+		switch(name) {
+			case "empty":
+				return new TicTacToe();
+			case "opening":
+				return new TicTacToe("---\n-X-\n---\n");
+			case "midgame":
+				return new TicTacToe("X-O\n-X-\nO--\n");
+			default:
+				throw new IllegalArgumentException("unknown board: "+name);
+		}
+	}
+
+	/**
+	 * @param name a TicTacToe board name, "gomoku" for an empty 15x15 board with 5 in a row
+	 *        or "connect4" for an empty Connect Four board
+	 * @return a new layout with the named position
+	 * @throws IllegalArgumentException if the name is unknown
+	 */
+	static Ilayout layout(String name) throws IllegalArgumentException {
+		if(name.equals("gomoku"))
+			return new MNKGame(15, 15, 5);
+		if(name.equals("connect4"))
+			return new ConnectFour();
+		return ticTacToe(name);
+	}
+}
@@ -0,0 +1,53 @@
+package mcts;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the TicTacToe operations the search calls on every node: children, winCheck and gameOver
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LayoutBenchmark {
+
+	@Param({"empty", "midgame"})
+	public String board;
+
+	private TicTacToe layout;
+
+	@Setup
+	public void setup() {
+		layout = Boards.ticTacToe(board);
+	}
+
+	@Benchmark
+	public List<Ilayout> children() {
+		return layout.children();
+	}
+
+	@Benchmark
+	public boolean winCheck() {
+		return layout.winCheck('X');
+	}
+
+	@Benchmark
+	public boolean gameOver() {
+		return layout.gameOver();
+	}
+}
@@ -0,0 +1,51 @@
+package mcts;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of MCTS.simulatePlayout with each playout policy, the cost that bounds the simulations per second
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PlayoutBenchmark {
+
+	@Param({"empty", "midgame", "gomoku", "connect4"})
+	public String board;
+
+	@Param({"random", "tactical"})
+	public String policy;
+
+	private MCTS mcts;
+	private MCTS.State state;
+	private char player;
+
+	@Setup
+	public void setup() {
+		Ilayout layout = Boards.layout(board);
+		mcts = new MCTS(0);
+		mcts.setPlayoutPolicy(policy.equals("tactical") ? new TacticalPolicy() : new RandomPolicy());
+		state = new MCTS.State(layout);
+		player = layout.getTurn();
+	}
+
+	@Benchmark
+	public char playout() {
+		return mcts.playout(state, player);
+	}
+}
@@ -0,0 +1,52 @@
+package mcts;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End to end latency of MCTS.findNextMove at several simulation counts
+ * with the tree kept in MCTS.State objects or in a NodePool, on TicTacToe and on the deeper Connect Four
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+	@Param({"250", "1750", "10000"})
+	public int simulations;
+
+	@Param({"empty", "midgame", "connect4"})
+	public String board;
+
+	@Param({"states", "pool"})
+	public String tree;
+
+	private MCTS mcts;
+	private Ilayout layout;
+
+	@Setup
+	public void setup() {
+		mcts = new MCTS(simulations);
+		mcts.setNodePool(tree.equals("pool"));
+		layout = Boards.layout(board);
+	}
+
+	@Benchmark
+	public Ilayout findNextMove() {
+		return mcts.findNextMove(layout, layout.getTurn());
+	}
+}
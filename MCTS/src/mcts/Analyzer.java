@@ -0,0 +1,245 @@
+package mcts;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch driver that searches every TicTacToe position of a file and writes the best move of each one
+ * the input is read one board per line, either as the 9 cells in a row ("X-OOXO-X-") or with the rows
+ * separated by '/' or by the two characters "\n" ("X-O\nOXO\nXO-"), the format of TicTacToe(String)
+ * the output has one tab separated line per position, written as soon as it is searched, so not in input order:
+ * line number, board, best cell and then cell:visits:winScore for every child of the root
+ * positions where the game is over get "-" as the best cell and lines that can't be read get "error" and the reason
+ * only a few positions per thread are read ahead, so memory doesn't depend on the size of the input
+ */
+public class Analyzer {
+
+	/**
+	 * positions read ahead of the workers, per thread
+	 */
+	private static final int QUEUE_PER_THREAD = 64;
+
+	/**
+	 * time between two progress reports, in nanoseconds
+	 */
+	private static final long REPORT_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
+	/**
+	 * simulations of each search
+	 */
+	private final int simulations;
+
+	/**
+	 * number of workers, each with its own MCTS
+	 */
+	private final int threads;
+
+	/**
+	 * search instance of each worker thread
+	 */
+	private final ThreadLocal<MCTS> engines;
+
+	/**
+	 * where the results are written, shared by the workers
+	 */
+	private BufferedWriter out;
+
+	/**
+	 * positions written so far, guarded by out
+	 */
+	private long done;
+
+	/**
+	 * System.nanoTime() values of the start of the run and of the last progress report, guarded by out
+	 */
+	private long start;
+	private long lastReport;
+
+	/**
+	 * first failure to write the output, the run stops once it is set
+	 */
+	private volatile IOException failure;
+
+	/**
+	 * constructor that sets the work of each position and the size of the pool
+	 * @param simulations simulations of each search
+	 * @param threads number of workers
+	 * @throws IllegalArgumentException if either is not positive
+	 */
+	public Analyzer(int simulations, int threads) {
+		if(simulations < 1)
+			throw new IllegalArgumentException("simulations must be positive: "+simulations);
+		if(threads < 1)
+			throw new IllegalArgumentException("threads must be positive: "+threads);
+		this.simulations = simulations;
+		this.threads = threads;
+		this.engines = ThreadLocal.withInitial(() -> {
+			MCTS m = new MCTS(this.simulations);
+			m.setNodePool(true);
+			m.setRootStatistics(true);
+			return m;
+		});
+	}
+
+	/**
+	 * searches every position of the input and writes the results to the output
+	 * @param input file with one board per line
+	 * @param output file to create or overwrite with the results
+	 * @return number of positions written
+	 * @throws IOException if the input can't be read or the output can't be written
+	 */
+	public long analyze(Path input, Path output) throws IOException {
+		ExecutorService pool = Executors.newFixedThreadPool(this.threads, r -> {
+			Thread t = new Thread(r, "mcts-analyzer");
+			t.setDaemon(true);
+			return t;
+		});
+		Semaphore pending = new Semaphore(this.threads * QUEUE_PER_THREAD);
+		try(BufferedReader in = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+				BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+			this.out = writer;
+			this.done = 0;
+			this.start = this.lastReport = System.nanoTime();
+			this.failure = null;
+
+			long lineNumber = 0;
+			String line;
+			while(this.failure == null && (line = in.readLine()) != null) {
+				long number = ++lineNumber;
+				if(line.isBlank())
+					continue;
+				String board = line.strip();
+				pending.acquireUninterruptibly();
+				pool.execute(() -> {
+					try {
+						String result;
+						try {
+							result = analyze(board);
+						} catch(RuntimeException e) {
+							result = "error\t" + e;
+						}
+						write(number + "\t" + board + "\t" + result);
+					} finally {
+						pending.release();
+					}
+				});
+			}
+			pool.shutdown();
+			awaitTermination(pool);
+			if(this.failure != null)
+				throw this.failure;
+			report();
+			return this.done;
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * searches a single position
+	 * @param board the board as read from the input
+	 * @return the best cell followed by the statistics of each move, or the reason the board couldn't be searched
+	 */
+	private String analyze(String board) {
+		TicTacToe t;
+		try {
+			t = new TicTacToe(parse(board));
+		} catch(IllegalArgumentException e) {
+			return "error\t" + e.getMessage();
+		}
+		if(t.gameOver())
+			return "-";
+
+		SearchResult result = this.engines.get().findNextMove(t, t.getTurn(), this.simulations);
+		StringBuilder line = new StringBuilder();
+		line.append(result.getMove().getLastPlayed());
+		for(MoveStats child : result.getChildren())
+			line.append('\t').append(child.getMove().getLastPlayed()).append(':').append(child.getVisits()).append(':').append(child.getWinScore());
+		return line.toString();
+	}
+
+	/**
+	 * turns a board of the input into the format of TicTacToe(String)
+	 * @param board the 9 cells in a row or the rows separated by '/' or "\n"
+	 * @return the rows separated by new lines
+	 */
+	static String parse(String board) {
+		if(board.length() == TicTacToe.SIZE)
+			return board.substring(0, 3) + "\n" + board.substring(3, 6) + "\n" + board.substring(6);
+		return board.replace("\\n", "\n").replace('/', '\n');
+	}
+
+	/**
+	 * writes a result and reports the progress when it is due
+	 * @param result the line to write
+	 */
+	private void write(String result) {
+		synchronized(this.out) {
+			if(this.failure != null)
+				return;
+			try {
+				this.out.write(result);
+				this.out.newLine();
+			} catch(IOException e) {
+				this.failure = e;
+				return;
+			}
+			this.done++;
+			if(System.nanoTime() - this.lastReport >= REPORT_INTERVAL)
+				report();
+		}
+	}
+
+	/**
+	 * prints the positions written so far and the rate at which they are searched to the standard error
+	 */
+	private void report() {
+		long now = System.nanoTime();
+		this.lastReport = now;
+		double seconds = (now - this.start) / 1e9;
+		System.err.printf("%d positions in %.1fs (%.0f/s)%n", this.done, seconds, seconds == 0 ? 0 : this.done / seconds);
+	}
+
+	/**
+	 * waits for the workers to finish the positions already read
+	 * @param pool the pool of the workers, already shut down
+	 */
+	private static void awaitTermination(ExecutorService pool) {
+		try {
+			while(!pool.awaitTermination(1, TimeUnit.MINUTES))
+				continue;
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("analysis was interrupted", e);
+		}
+	}
+
+	/**
+	 * usage: Analyzer input output [simulations] [threads]
+	 * @param args input file, output file, simulations per position (1750 by default)
+	 *        and number of threads (one per core by default)
+	 */
+	public static void main(String[] args) {
+		if(args.length < 2) {
+			System.err.println("usage: Analyzer input output [simulations] [threads]");
+			System.exit(2);
+		}
+		int simulations = args.length > 2 ? Integer.parseInt(args[2]) : 1750;
+		int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+		try {
+			new Analyzer(simulations, threads).analyze(Paths.get(args[0]), Paths.get(args[1]));
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
\ No newline at end of file
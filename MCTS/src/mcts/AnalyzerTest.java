@@ -0,0 +1,65 @@
+package mcts;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AnalyzerTest {
+
+	private static Path tempFile() throws IOException {
+		Path file = Files.createTempFile("analyzer", ".txt");
+		file.toFile().deleteOnExit();
+		return file;
+	}
+
+	@Test
+	public void testAnalyze() throws IOException {
+		Path input = tempFile();
+		Path output = tempFile();
+		Files.write(input, Arrays.asList(
+				"XX-OO----",
+				"",
+				"XXX/OO-/---",
+				"XOX\\n-O-\\n---",
+				"XXXX"), StandardCharsets.UTF_8);
+		long done = new Analyzer(500, 2).analyze(input, output);
+		assertEquals(4, done);		// the blank line is skipped
+
+		List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+		assertEquals(4, lines.size());
+		lines.sort((a, b) -> Integer.compare(Integer.parseInt(a.split("\t")[0]), Integer.parseInt(b.split("\t")[0])));
+
+		String[] win = lines.get(0).split("\t");
+		assertEquals("1", win[0]);
+		assertEquals("XX-OO----", win[1]);
+		assertEquals("2", win[2]);
+		assertEquals(3 + 5, win.length);		// one cell:visits:winScore per empty cell
+		int visits = 0;
+		for(int i = 3; i < win.length; i++)
+			visits += Integer.parseInt(win[i].split(":")[1]);
+		assertTrue(visits > 0 && visits <= 500);
+
+		assertEquals("3\tXXX/OO-/---\t-", lines.get(1));
+
+		String[] block = lines.get(2).split("\t");
+		assertEquals("4", block[0]);
+		assertEquals("7", block[2]);
+
+		String[] error = lines.get(3).split("\t");
+		assertEquals("5", error[0]);
+		assertEquals("error", error[2]);
+	}
+
+	@Test
+	public void testParse(){
+		assertEquals("X-O\nOXO\nXO-", Analyzer.parse("X-OOXOXO-"));
+		assertEquals("X-O\nOXO\nXO-", Analyzer.parse("X-O/OXO/XO-"));
+		assertEquals("X-O\nOXO\nXO-", Analyzer.parse("X-O\\nOXO\\nXO-"));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,282 @@
+package mcts;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Plays engine against engine games on a pool of threads and reports how the first contender did
+ * the contenders swap sides every game, so each one starts half of them
+ * every thread of the pool keeps one MCTS per contender and reuses it for all its games
+ * close() stops the pool and closes those engines
+ */
+public class Arena implements AutoCloseable {
+
+	/**
+	 * One side of the match: how to build its engine and how long it may think
+	 */
+	public static class Contender {
+
+		/**
+		 * name used in reports
+		 */
+		private final String name;
+
+		/**
+		 * builds the engine of this contender, called once per thread of the arena
+		 * the engine may be configured in any way: simulations, exploration factor, threads, node pool...
+		 */
+		private final Supplier<MCTS> engine;
+
+		/**
+		 * time each move may take, null to run the simulations of the engine instead
+		 */
+		private final Duration budget;
+
+		/**
+		 * constructor for a contender that runs the simulations of its engine on every move
+		 * @param name name used in reports
+		 * @param engine builds the engine of this contender
+		 */
+		public Contender(String name, Supplier<MCTS> engine) {
+			this(name, engine, null);
+		}
+
+		/**
+		 * constructor for a contender that searches until its budget is spent on every move
+		 * @param name name used in reports
+		 * @param engine builds the engine of this contender
+		 * @param budget time each move may take, null to run the simulations of the engine instead
+		 */
+		public Contender(String name, Supplier<MCTS> engine, Duration budget) {
+			this.name = name;
+			this.engine = engine;
+			this.budget = budget;
+		}
+
+		/**
+		 * getter for the name
+		 * @return name used in reports
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * getter for the budget
+		 * @return time each move may take or null
+		 */
+		public Duration getBudget() {
+			return budget;
+		}
+
+		/**
+		 * @return the name of the contender
+		 */
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	private final Contender first;
+	private final Contender second;
+
+	/**
+	 * builds the starting position of every game
+	 */
+	private final Supplier<Ilayout> start;
+
+	/**
+	 * number of games played at once
+	 */
+	private final int threads;
+
+	/**
+	 * pool that plays the games, created on the first match
+	 */
+	private ExecutorService pool;
+
+	/**
+	 * engine of each contender in the current thread
+	 */
+	private final ThreadLocal<MCTS> firstEngine;
+	private final ThreadLocal<MCTS> secondEngine;
+
+	/**
+	 * every engine built by the threads of the pool, closed along with it
+	 */
+	private final Queue<MCTS> engines = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * constructor for a match of TicTacToe
+	 * @param first the contender the result is reported for
+	 * @param second its opponent
+	 * @param threads number of games played at once
+	 */
+	public Arena(Contender first, Contender second, int threads) {
+		this(first, second, TicTacToe::new, threads);
+	}
+
+	/**
+	 * constructor for a match starting from any layout, the player whose turn it is there moves first
+	 * @param first the contender the result is reported for
+	 * @param second its opponent
+	 * @param start builds the starting position of every game
+	 * @param threads number of games played at once
+	 * @throws IllegalArgumentException if threads is not positive
+	 */
+	public Arena(Contender first, Contender second, Supplier<Ilayout> start, int threads) throws IllegalArgumentException {
+		if(threads < 1)
+			throw new IllegalArgumentException("threads must be positive: "+threads);
+		this.first = first;
+		this.second = second;
+		this.start = start;
+		this.threads = threads;
+		this.firstEngine = ThreadLocal.withInitial(() -> build(first));
+		this.secondEngine = ThreadLocal.withInitial(() -> build(second));
+	}
+
+	/**
+	 * builds the engine of a contender for the current thread, keeping it to be closed with the arena
+	 * @param contender the contender whose engine is built
+	 * @return the new engine
+	 */
+	private MCTS build(Contender contender) {
+		MCTS engine = contender.engine.get();
+		this.engines.add(engine);
+		return engine;
+	}
+
+	/**
+	 * stops the threads of the pool and the threads of the engines it built, a later match starts new ones
+	 */
+	@Override
+	public void close() {
+		if(this.pool != null) {
+			this.pool.shutdownNow();
+			this.pool = null;
+		}
+		MCTS engine;
+		while((engine = this.engines.poll()) != null)
+			engine.close();
+	}
+
+	/**
+	 * plays a match, the first contender moving first in the even games
+	 * @param games amount of games to play
+	 * @return the results from the point of view of the first contender
+	 */
+	public ArenaResult play(int games) {
+		if(this.pool == null) {
+			this.pool = Executors.newFixedThreadPool(this.threads, r -> {
+				Thread t = new Thread(r, "mcts-arena");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		LongAdder[] moves = { new LongAdder(), new LongAdder() };
+		LongAdder[] nanos = { new LongAdder(), new LongAdder() };
+		List<Future<Integer>> results = new ArrayList<>(games);
+		for(int g = 0; g < games; g++) {
+			boolean firstStarts = g % 2 == 0;
+			results.add(this.pool.submit(() -> playGame(firstStarts, moves, nanos)));
+		}
+
+		int wins = 0, draws = 0, losses = 0;
+		for(Future<Integer> result : results) {
+			int points = await(result);
+			if(points > 0)
+				wins++;
+			else if(points < 0)
+				losses++;
+			else
+				draws++;
+		}
+		return new ArenaResult(wins, draws, losses, mean(nanos[0], moves[0]), mean(nanos[1], moves[1]));
+	}
+
+	/**
+	 * plays one game on the current thread
+	 * @param firstStarts true if the first contender makes the first move
+	 * @param moves moves made by each contender, updated by the game
+	 * @param nanos time taken by each contender, updated by the game
+	 * @return 1 if the first contender won, -1 if it lost and 0 for a draw
+	 */
+	private int playGame(boolean firstStarts, LongAdder[] moves, LongAdder[] nanos) {
+		Ilayout layout = this.start.get();
+		char turn = layout.getTurn();
+		char firstPlays = firstStarts ? turn : layout.getOpponent(turn);
+		while(!layout.gameOver()) {
+			int side = turn == firstPlays ? 0 : 1;
+			Contender contender = side == 0 ? this.first : this.second;
+			MCTS engine = (side == 0 ? this.firstEngine : this.secondEngine).get();
+
+			long before = System.nanoTime();
+			if(contender.budget == null)
+				layout = engine.findNextMove(layout, turn);
+			else
+				layout = engine.findNextMove(layout, turn, contender.budget).getMove();
+			nanos[side].add(System.nanoTime() - before);
+			moves[side].increment();
+
+			if(layout.gameOver())
+				return layout.getResult() == turn ? (side == 0 ? 1 : -1) : 0;
+			turn = layout.getOpponent(turn);
+		}
+		return 0;
+	}
+
+	/**
+	 * @param nanos total time
+	 * @param count amount of moves
+	 * @return mean time per move
+	 */
+	private static Duration mean(LongAdder nanos, LongAdder count) {
+		long n = count.sum();
+		return Duration.ofNanos(n == 0 ? 0 : nanos.sum() / n);
+	}
+
+	/**
+	 * waits for a game of the pool, turning its failures into unchecked exceptions
+	 * @param result the future of the game
+	 * @return the value computed by the game
+	 */
+	private static <T> T await(Future<T> result) {
+		try {
+			return result.get();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("match was interrupted", e);
+		} catch(ExecutionException e) {
+			throw new IllegalStateException("game failed", e.getCause());
+		}
+	}
+
+	/**
+	 * usage: Arena games simulationsA simulationsB [threads]
+	 * plays the default engine with two simulation counts against each other
+	 * @param args amount of games, simulations of each contender and games played at once (one per core by default)
+	 */
+	public static void main(String[] args) {
+		if(args.length < 3) {
+			System.err.println("usage: Arena games simulationsA simulationsB [threads]");
+			System.exit(2);
+		}
+		int games = Integer.parseInt(args[0]);
+		int a = Integer.parseInt(args[1]);
+		int b = Integer.parseInt(args[2]);
+		int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+		try(Arena arena = new Arena(new Contender("A", () -> new MCTS(a)), new Contender("B", () -> new MCTS(b)), threads)) {
+			System.out.println("A (" + a + ") vs B (" + b + "): " + arena.play(games));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+package mcts;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a match of the Arena, seen from the first contender
+ * the Elo difference is estimated from the score and its 95% confidence interval from the spread of the game results
+ */
+public class ArenaResult {
+
+	/**
+	 * z value of a two sided 95% confidence interval
+	 */
+	private static final double Z_95 = 1.959963984540054;
+
+	/**
+	 * games won, drawn and lost by the first contender
+	 */
+	private final int wins;
+	private final int draws;
+	private final int losses;
+
+	/**
+	 * mean time each contender took to choose a move
+	 */
+	private final Duration firstLatency;
+	private final Duration secondLatency;
+
+	/**
+	 * constructor that sets every attribute
+	 * @param wins games won by the first contender
+	 * @param draws games drawn
+	 * @param losses games lost by the first contender
+	 * @param firstLatency mean time the first contender took to move
+	 * @param secondLatency mean time the second contender took to move
+	 */
+	public ArenaResult(int wins, int draws, int losses, Duration firstLatency, Duration secondLatency) {
+		this.wins = wins;
+		this.draws = draws;
+		this.losses = losses;
+		this.firstLatency = firstLatency;
+		this.secondLatency = secondLatency;
+	}
+
+	/**
+	 * getter for the wins
+	 * @return games won by the first contender
+	 */
+	public int getWins() {
+		return wins;
+	}
+
+	/**
+	 * getter for the draws
+	 * @return games drawn
+	 */
+	public int getDraws() {
+		return draws;
+	}
+
+	/**
+	 * getter for the losses
+	 * @return games lost by the first contender
+	 */
+	public int getLosses() {
+		return losses;
+	}
+
+	/**
+	 * @return amount of games played
+	 */
+	public int getGames() {
+		return wins + draws + losses;
+	}
+
+	/**
+	 * getter for the latency of the first contender
+	 * @return mean time the first contender took to move
+	 */
+	public Duration getFirstLatency() {
+		return firstLatency;
+	}
+
+	/**
+	 * getter for the latency of the second contender
+	 * @return mean time the second contender took to move
+	 */
+	public Duration getSecondLatency() {
+		return secondLatency;
+	}
+
+	/**
+	 * @return points of the first contender per game, a win being worth 1 and a draw 0.5
+	 */
+	public double getScore() {
+		int games = getGames();
+		return games == 0 ? 0.5 : (wins + 0.5 * draws) / games;
+	}
+
+	/**
+	 * @return how much stronger the first contender is in Elo, infinite if one of them scored every point
+	 */
+	public double getEloDifference() {
+		return elo(getScore());
+	}
+
+	/**
+	 * @return lower bound of the 95% confidence interval of the Elo difference
+	 */
+	public double getEloLower() {
+		return elo(getScore() - Z_95 * standardError());
+	}
+
+	/**
+	 * @return upper bound of the 95% confidence interval of the Elo difference
+	 */
+	public double getEloUpper() {
+		return elo(getScore() + Z_95 * standardError());
+	}
+
+	/**
+	 * @return standard error of the score, from the variance of the points of each game
+	 */
+	private double standardError() {
+		int games = getGames();
+		if(games == 0)
+			return 0;
+		double score = getScore();
+		double variance = (wins * (1 - score) * (1 - score) + draws * (0.5 - score) * (0.5 - score) + losses * score * score) / games;
+		return Math.sqrt(variance / games);
+	}
+
+	/**
+	 * converts a score into an Elo difference with the logistic model
+	 * @param score points per game
+	 * @return the Elo difference that gives that expected score
+	 */
+	private static double elo(double score) {
+		if(score <= 0)
+			return Double.NEGATIVE_INFINITY;
+		if(score >= 1)
+			return Double.POSITIVE_INFINITY;
+		return -400 * Math.log10(1 / score - 1);
+	}
+
+	/**
+	 * @return the win/draw/loss count, the Elo difference with its interval and the latency of both contenders
+	 */
+	@Override
+	public String toString() {
+		return String.format("+%d =%d -%d, elo %+.1f [%+.1f, %+.1f], latency %.2fms / %.2fms", wins, draws, losses,
+				getEloDifference(), getEloLower(), getEloUpper(), firstLatency.toNanos() / 1e6, secondLatency.toNanos() / 1e6);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package mcts;
+
+import java.time.Duration;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ArenaTest {
+
+	@Test
+	public void testMatch(){
+		Arena.Contender strong = new Arena.Contender("strong", () -> new MCTS(1000));
+		Arena.Contender weak = new Arena.Contender("weak", () -> new MCTS(1));
+		try(Arena arena = new Arena(strong, weak, 2)) {
+			ArenaResult result = arena.play(8);
+			assertEquals(8, result.getGames());
+			assertEquals(8, result.getWins() + result.getDraws() + result.getLosses());
+			assertTrue(result.toString(), result.getWins() > result.getLosses());
+			assertTrue(result.toString(), result.getEloDifference() > 0);
+			assertTrue(result.getEloLower() <= result.getEloDifference());
+			assertTrue(result.getEloDifference() <= result.getEloUpper());
+		}
+		try(Arena arena = new Arena(weak, strong, 2)) {
+			ArenaResult result = arena.play(8);
+			assertTrue(result.toString(), result.getEloDifference() < 0);
+		}
+	}
+
+	@Test
+	public void testPlayAfterClose(){
+		Arena.Contender a = new Arena.Contender("a", () -> new MCTS(50, 2));
+		Arena.Contender b = new Arena.Contender("b", () -> new MCTS(50));
+		Arena arena = new Arena(a, b, () -> new MNKGame(4, 4, 3), 2);
+		assertEquals(2, arena.play(2).getGames());
+		arena.close();
+		assertEquals(2, arena.play(2).getGames());
+		arena.close();
+	}
+
+	@Test
+	public void testResult(){
+		ArenaResult even = new ArenaResult(3, 4, 3, Duration.ZERO, Duration.ZERO);
+		assertEquals(0.5, even.getScore(), 1e-9);
+		assertEquals(0, even.getEloDifference(), 1e-9);
+		ArenaResult ahead = new ArenaResult(6, 2, 2, Duration.ZERO, Duration.ZERO);
+		assertEquals(0.7, ahead.getScore(), 1e-9);
+		assertEquals(147.2, ahead.getEloDifference(), 0.1);
+	}
+}
\ No newline at end of file
@@ -1,3 +1,5 @@
+package mcts;
+
 import java.util.Scanner;
 
 public class Client {
@@ -15,7 +17,7 @@ public class Client {
 		while(!t.gameOver()) {
 			System.out.println("Current player: " + t.getTurn());
 			Ilayout suggested = m.findNextMove(t, t.getTurn());
-			System.out.println("The MCTS algorithm suggests the following move for you to play: " + ((TicTacToe) suggested).getLastPlayed());
+			System.out.println("The MCTS algorithm suggests the following move for you to play: " + suggested.getLastPlayed());
 			System.out.println("Enter a number from 0-8: ");
 			int move = sc.nextInt();
 			t.play(move);
@@ -0,0 +1,488 @@
+package mcts;
+
+/**
+ * Connect Four game
+ * 7 columns and 6 rows, a move drops a stone in a column and the first player with 4 in a row wins
+ * ASSUME p1 ('X') starts first
+ * the board is kept as two bitboards (one per player), column x using the bits x*H1 to x*H1 + HEIGHT-1
+ * from the bottom up, the extra bit on top of every column stays empty so the shifts of one column never reach the next
+ * every operation is a few shifts and masks on longs, so playing, taking back and copying a board never allocate
+ */
+public class ConnectFour implements Ilayout, Cloneable {
+
+	/**
+	 * dimensions of the board
+	 */
+	static final int WIDTH = 7;
+	static final int HEIGHT = 6;
+
+	/**
+	 * bits used by each column, its cells plus the empty one on top
+	 */
+	private static final int H1 = HEIGHT + 1;
+
+	/**
+	 * amount of cells in the board, also the most moves a game can have
+	 */
+	static final int SIZE = WIDTH * HEIGHT;
+
+	/**
+	 * mask with the bottom cell of every column set
+	 */
+	private static final long BOTTOM = bottomMask();
+
+	/**
+	 * mask with every cell of the board set
+	 */
+	private static final long BOARD_MASK = BOTTOM * ((1L << HEIGHT) - 1);
+
+	/**
+	 * char emptyCell represents the char in the free cells
+	 * char p1 is the player with the 'X' cell here we always assume p1 starts first
+	 * char p2 is the player with the 'O' cell
+	 */
+	private static final char emptyCell = '-';
+	private static final char p1 = 'X';
+	private static final char p2 = 'O';
+
+	/**
+	 * The board
+	 * p1Board has the bits of the cells occupied by p1, p2Board the ones occupied by p2
+	 */
+	private long p1Board;
+	private long p2Board;
+
+	/**
+	 * amount of moves played
+	 */
+	private int moves;
+
+	/**
+	 * player with 4 in a row or emptyCell if there is none yet, kept up to date by play and undo
+	 */
+	private char winner = emptyCell;
+
+	/**
+	 * holds the column in which the last move was done
+	 * exists in [0, WIDTH)
+	 */
+	private int lastPlayed;
+
+	/**
+	 * default constructor which starts a game with an empty board
+	 */
+	ConnectFour() {
+		this.lastPlayed = 0;
+	}
+
+	/**
+	 * Constructor that accepts a string as a board state, the top row first (mostly for testing)
+	 * @param str - board config in string, HEIGHT rows of WIDTH cells (eg.: "-------\n...\n--XO---\n")
+	 * @throws IllegalArgumentException - if the size is wrong, there is an invalid character or a stone over an empty cell
+	 */
+	ConnectFour(String str) throws IllegalArgumentException {
+		String[] lines = str.split("\n");
+		if(lines.length != HEIGHT)
+			throw new IllegalArgumentException("wrong size of argument (rows): "+lines.length);
+		for(int y = 0; y < HEIGHT; y++){
+			if(lines[y].length() != WIDTH)
+				throw new IllegalArgumentException("size of argument (columns): "+lines[y].length());
+			for(int x = 0; x < WIDTH; x++){
+				char c = lines[y].charAt(x);
+				if(!isValidCharacter(c))
+					throw new IllegalArgumentException("Invalid character in argument: "+c);
+				if(c == p1)
+					this.p1Board |= bit(x, y);
+				else if(c == p2)
+					this.p2Board |= bit(x, y);
+			}
+		}
+		long mask = this.p1Board | this.p2Board;
+		for(int x = 0; x < WIDTH; x++){
+			long column = mask & columnMask(x);
+			if((column & (column + bottomBit(x))) != 0)
+				throw new IllegalArgumentException("stone over an empty cell in column "+x);
+		}
+		this.moves = Long.bitCount(mask);
+		if(hasFour(this.p1Board))
+			this.winner = p1;
+		else if(hasFour(this.p2Board))
+			this.winner = p2;
+		this.lastPlayed = 0;
+	}
+
+	/**
+	 * @return mask with the bottom cell of every column set
+	 */
+	private static long bottomMask(){
+		long mask = 0;
+		for(int x = 0; x < WIDTH; x++)
+			mask |= 1L << (x * H1);
+		return mask;
+	}
+
+	/**
+	 * @param x int column
+	 * @return bit of the bottom cell of the column
+	 */
+	private static long bottomBit(int x){
+		return 1L << (x * H1);
+	}
+
+	/**
+	 * @param x int column
+	 * @return bit of the top cell of the column
+	 */
+	private static long topBit(int x){
+		return 1L << (x * H1 + HEIGHT - 1);
+	}
+
+	/**
+	 * @param x int column
+	 * @return mask with every cell of the column set
+	 */
+	private static long columnMask(int x){
+		return ((1L << HEIGHT) - 1) << (x * H1);
+	}
+
+	/**
+	 * @param x int column
+	 * @param y int row, 0 being the top row like in toString
+	 * @return bit of the cell
+	 */
+	private static long bit(int x, int y){
+		return 1L << (x * H1 + HEIGHT - 1 - y);
+	}
+
+	/**
+	 * looks for 4 in a row in every direction at once, shifting the board onto itself
+	 * @param b bitboard of a player
+	 * @return true if b has 4 stones in a row
+	 */
+	private static boolean hasFour(long b){
+		long m = b & (b >> 1);				//vertical
+		if((m & (m >> 2)) != 0)
+			return true;
+		m = b & (b >> H1);					//horizontal
+		if((m & (m >> 2*H1)) != 0)
+			return true;
+		m = b & (b >> (H1 - 1));			//diagonal from top-left to bot-right
+		if((m & (m >> 2*(H1 - 1))) != 0)
+			return true;
+		m = b & (b >> (H1 + 1));			//diagonal from bot-left to top-right
+		return (m & (m >> 2*(H1 + 1))) != 0;
+	}
+
+	/**
+	 * finds every empty cell that would give a player 4 in a row, whether it can be played yet or not
+	 * @param b bitboard of the player
+	 * @param mask bitboard of both players
+	 * @return mask with those cells set
+	 */
+	private static long winningCells(long b, long mask){
+		long r = (b << 1) & (b << 2) & (b << 3);	//vertical, only upwards
+		for(int s = H1 - 1; s <= H1 + 1; s++){		//both diagonals and horizontal
+			long p = (b << s) & (b << 2*s);
+			r |= p & (b << 3*s);
+			r |= p & (b >> s);
+			p = (b >> s) & (b >> 2*s);
+			r |= p & (b << s);
+			r |= p & (b >> 3*s);
+		}
+		return r & (BOARD_MASK ^ mask);
+	}
+
+	/**
+	 * checks if the char is a player
+	 * @param c - char to eval
+	 * @return true if c is 'O' or 'X'
+	 */
+	public boolean isValidPlayer(char c){
+		return c == p1 || c == p2;
+	}
+
+	/**
+	 * checks if char is a valid character in the context of this game
+	 * @param c - char to eval
+	 * @return true if c is 'O', 'X', or '-'
+	 */
+	public boolean isValidCharacter(char c){
+		return isValidPlayer(c) || c == emptyCell;
+	}
+
+	/**
+	 * checks if the coordinates are within the board
+	 * @param x int column
+	 * @param y int row, 0 being the top row
+	 * @return true if x exists in [0, WIDTH) and y in [0, HEIGHT)
+	 */
+	public boolean inBounds(int x, int y){
+		return x >= 0 && x < WIDTH && y >= 0 && y < HEIGHT;
+	}
+
+	/**
+	 * gets the char in the board at x and y
+	 * @param x int column
+	 * @param y int row, 0 being the top row like in toString
+	 * @return char in the x,y on the board
+	 * @throws IllegalArgumentException if x or y aren't in bounds
+	 */
+	public char get(int x, int y) throws IllegalArgumentException {
+		if(!inBounds(x, y))
+			throw new IllegalArgumentException(x+" or "+y+" are not in bounds");
+		long b = bit(x, y);
+		if((p1Board & b) != 0)
+			return p1;
+		return (p2Board & b) != 0 ? p2 : emptyCell;
+	}
+
+	/**
+	 * @param x int column
+	 * @return amount of stones in the column
+	 * @throws IllegalArgumentException if x isn't a column
+	 */
+	public int getColumnHeight(int x) throws IllegalArgumentException {
+		if(x < 0 || x >= WIDTH)
+			throw new IllegalArgumentException("column "+x+" is not in bounds");
+		return Long.bitCount((p1Board | p2Board) & columnMask(x));
+	}
+
+	/**
+	 * drops a stone of the player whose turn it is in a column
+	 * @param x int column to play
+	 * @throws IllegalArgumentException if x isn't a column or the column is full
+	 */
+	public void play(int x) throws IllegalArgumentException {
+		if(x < 0 || x >= WIDTH)
+			throw new IllegalArgumentException("column "+x+" is not in bounds");
+		long mask = p1Board | p2Board;
+		if((mask & topBit(x)) != 0)
+			throw new IllegalArgumentException("column "+x+" is full");
+		long move = (mask + bottomBit(x)) & columnMask(x);
+		if((moves & 1) == 0){
+			p1Board |= move;
+			if(winner == emptyCell && hasFour(p1Board))
+				winner = p1;
+		}else{
+			p2Board |= move;
+			if(winner == emptyCell && hasFour(p2Board))
+				winner = p2;
+		}
+		moves++;
+		lastPlayed = x;
+	}
+
+	/**
+	 * takes back the top stone of a column (the inverse of play(x))
+	 * @param x int column, exists in [0, WIDTH)
+	 */
+	public void undo(int x){
+		long column = (p1Board | p2Board) & columnMask(x);
+		if(column == 0)
+			return;
+		long top = Long.highestOneBit(column);
+		if((p1Board & top) != 0)
+			p1Board ^= top;
+		else
+			p2Board ^= top;
+		moves--;
+		if(winner != emptyCell)
+			winner = hasFour(p1Board) ? p1 : (hasFour(p2Board) ? p2 : emptyCell);
+	}
+
+	/**
+	 * looks for a column where player gets 4 in a row right away, without playing it
+	 * @param player char of the player
+	 * @return the first such column or -1 if there is none
+	 */
+	public int findWinningMove(char player){
+		long mask = p1Board | p2Board;
+		long cells = winningCells(player == p1 ? p1Board : p2Board, mask) & (mask + BOTTOM);
+		return cells == 0 ? -1 : Long.numberOfTrailingZeros(cells) / H1;
+	}
+
+	/**
+	 * @param other any layout
+	 * @return true if other is a ConnectFour, the only kind of layout copyFrom accepts
+	 */
+	public boolean canCopyFrom(Ilayout other) {
+		return other instanceof ConnectFour;
+	}
+
+	/**
+	 * same as copyFrom(ConnectFour) for any layout
+	 * @param other ConnectFour whose config will be copied
+	 * @throws IllegalArgumentException if other isn't a ConnectFour
+	 */
+	public void copyFrom(Ilayout other) throws IllegalArgumentException {
+		if(!(other instanceof ConnectFour))
+			throw new IllegalArgumentException("can't copy a "+other.getClass().getSimpleName()+" into a ConnectFour");
+		copyFrom((ConnectFour) other);
+	}
+
+	/**
+	 * overwrites this board with the board of other, used to reuse an instance instead of cloning
+	 * @param other ConnectFour whose config will be copied
+	 */
+	public void copyFrom(ConnectFour other) {
+		this.p1Board = other.p1Board;
+		this.p2Board = other.p2Board;
+		this.moves = other.moves;
+		this.winner = other.winner;
+		this.lastPlayed = other.lastPlayed;
+	}
+
+	/**
+	 * gets the turn
+	 * p1 plays whenever both players played the same amount of times, otherwise it's p2's turn
+	 * @return the player to move
+	 */
+	public char getTurn(){
+		return (moves & 1) == 0 ? p1 : p2;
+	}
+
+	/**
+	 * gets the column that was last played
+	 * @return the last turn of this config
+	 */
+	public int getLastPlayed() {
+		return lastPlayed;
+	}
+
+	/**
+	 * @return amount of columns, the most moves a config can have
+	 */
+	public int getMaxMoves() {
+		return WIDTH;
+	}
+
+	/**
+	 * the moves of Connect Four are the columns that aren't full, as long as no one has 4 in a row
+	 * @param moves buffer with room for at least WIDTH columns
+	 * @return amount of moves written into moves
+	 */
+	public int getMoves(int[] moves) {
+		if(winner != emptyCell)
+			return 0;
+		long mask = p1Board | p2Board;
+		int count = 0;
+		for(int x = 0; x < WIDTH; x++)
+			if((mask & topBit(x)) == 0)
+				moves[count++] = x;
+		return count;
+	}
+
+	/**
+	 * checks if argument "player" won the game
+	 * @param player char that represents the player
+	 * @return true if player has 4 in a row
+	 * @throws IllegalArgumentException if char "player" isn't a valid player aka isn't a 'O' or 'X'
+	 */
+	public boolean winCheck(char player) throws IllegalArgumentException {
+		if(!isValidPlayer(player))
+			throw new IllegalArgumentException("char "+player+" isn't a valid player, valid players: "+p1+" and "+p2);
+		return winner == player;
+	}
+
+	/**
+	 * checks if the game is over by draw
+	 * @return true if the board is full and no one won
+	 */
+	public boolean drawCheck(){
+		return moves == SIZE && winner == emptyCell;
+	}
+
+	/**
+	 * @return true if game is over and false otherwise
+	 */
+	public boolean gameOver(){
+		return moves == SIZE || winner != emptyCell;
+	}
+
+	/**
+	 * @return the player with 4 in a row, '-' for a draw or ONGOING if the game isn't over
+	 */
+	public char getResult(){
+		if(winner != emptyCell)
+			return winner;
+		return moves == SIZE ? DRAW : ONGOING;
+	}
+
+	/**
+	 * @return amount of visits
+	 */
+	public int getVisits(){
+		return 1;
+	}
+
+	/**
+	 * @param player char representing the player whose wins will be returned
+	 * @return amount of "player"'s wins
+	 */
+	public int getWins(char player){
+		return winCheck(player) ? 1 : 0;
+	}
+
+	/**
+	 * the stones of p1 plus every occupied cell, which is unique for each board since the empty bit on top of
+	 * every column keeps the carries of one column out of the next
+	 * @return the 64 bit hash of the board, equal boards always have equal hashes and different boards different ones
+	 */
+	public long getHash(){
+		return p1Board + (p1Board | p2Board);
+	}
+
+	/**
+	 * @param other object to eval
+	 * @return true if other is a ConnectFour where both players have the same stones, false otherwise
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if (other == this) return true;
+		if (!(other instanceof ConnectFour that)) return false;
+		return this.p1Board == that.p1Board && this.p2Board == that.p2Board;
+	}
+
+	/**
+	 * @return the hash folded into an int, consistent with equals
+	 */
+	@Override
+	public int hashCode() {
+		long hash = getHash();
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	/**
+	 * toString method
+	 * @return a string representing the config of the current game, one line per row from the top
+	 */
+	@Override
+	public String toString(){
+		StringBuilder result = new StringBuilder(HEIGHT*(WIDTH+1));
+		for(int y = 0; y < HEIGHT; y++){
+			for(int x = 0; x < WIDTH; x++)
+				result.append(get(x, y));
+			result.append('\n');
+		}
+		return result.toString();
+	}
+
+	/**
+	 * clone method
+	 * @return a clone of the instance used upon
+	 */
+	public Object clone(){
+		try{
+			return super.clone();
+		}catch(CloneNotSupportedException e){
+			throw new AssertionError(e);			//this line should be unreachable since this object is clonable
+		}
+	}
+
+	/**
+	 * @return a clone of the instance used upon
+	 */
+	public Ilayout copy(){
+		return (Ilayout) clone();
+	}
+}
\ No newline at end of file
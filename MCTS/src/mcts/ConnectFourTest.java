@@ -0,0 +1,251 @@
+package mcts;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ConnectFourTest {
+	@Test
+	public void testConstructor1(){	// also tests toString
+		ConnectFour game = new ConnectFour();
+		String expected =	"-------\n"+
+							"-------\n"+
+							"-------\n"+
+							"-------\n"+
+							"-------\n"+
+							"-------\n";
+		assertEquals(expected, game.toString());
+	}
+
+	@Test
+	public void testConstructor2(){	// also tests toString
+		String expected =	"-------\n"+
+							"-------\n"+
+							"-------\n"+
+							"---O---\n"+
+							"---X---\n"+
+							"--OXX--\n";
+		ConnectFour game = new ConnectFour(expected);
+		assertEquals(expected, game.toString());
+		assertEquals('O', game.getTurn());
+		assertEquals(Ilayout.ONGOING, game.getResult());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorExceptions1(){
+		String wrong =	"-------\n"+
+						"-------\n"+
+						"-------\n"+
+						"-------\n"+
+						"--------\n"+	//grid is too big in this line
+						"---X---\n";
+		new ConnectFour(wrong);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorExceptions2(){
+		String wrong =	"-------\n"+
+						"-------\n"+
+						"-------\n"+
+						"---X---\n"+	// stone over an empty cell
+						"-------\n"+
+						"---O---\n";
+		new ConnectFour(wrong);
+	}
+
+	@Test
+	public void testPlay(){
+		ConnectFour game = new ConnectFour();
+		game.play(3);
+		game.play(3);
+		game.play(0);
+		assertEquals('X', game.get(3, 5));
+		assertEquals('O', game.get(3, 4));
+		assertEquals('X', game.get(0, 5));
+		assertEquals('-', game.get(3, 3));
+		assertEquals(2, game.getColumnHeight(3));
+		assertEquals('O', game.getTurn());
+		assertEquals(0, game.getLastPlayed());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPlayExceptions1(){
+		ConnectFour game = new ConnectFour();
+		for(int i = 0; i < ConnectFour.HEIGHT + 1; i++)
+			game.play(2);		// the seventh stone doesn't fit
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPlayExceptions2(){
+		new ConnectFour().play(ConnectFour.WIDTH);
+	}
+
+	@Test
+	public void testWinCheck(){
+		ConnectFour game = new ConnectFour();
+		int[] horizontal = {0, 0, 1, 1, 2, 2, 3};
+		for(int x : horizontal)
+			game.play(x);
+		assertTrue(game.winCheck('X'));
+		assertFalse(game.winCheck('O'));
+		assertTrue(game.gameOver());
+
+		String input =	"-------\n"+
+						"-------\n"+
+						"---X---\n"+
+						"--XO---\n"+
+						"-XOO---\n"+
+						"XOOX---\n";
+		assertEquals('X', new ConnectFour(input).getResult());
+		input =	"-------\n"+
+				"-------\n"+
+				"O------\n"+
+				"XO-----\n"+
+				"XXO----\n"+
+				"XXXO---\n";
+		assertEquals('O', new ConnectFour(input).getResult());
+		input =	"-------\n"+
+				"-------\n"+
+				"O------\n"+
+				"O------\n"+
+				"OX-----\n"+
+				"OXX----\n";
+		assertEquals('O', new ConnectFour(input).getResult());
+		input =	"X------\n"+
+				"X------\n"+
+				"X------\n"+
+				"O------\n"+
+				"O------\n"+
+				"OX-----\n";
+		assertFalse(new ConnectFour(input).gameOver());		// no line wraps from the top of a column to the next one
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWinCheckException(){
+		new ConnectFour().winCheck('a');
+	}
+
+	@Test
+	public void testDrawCheck(){
+		String input =	"XOXOXOX\n"+
+						"XOXOXOX\n"+
+						"XOXOXOX\n"+
+						"OXOXOXO\n"+
+						"OXOXOXO\n"+
+						"OXOXOXO\n";
+		ConnectFour game = new ConnectFour(input);
+		assertTrue(game.drawCheck());
+		assertEquals(Ilayout.DRAW, game.getResult());
+		assertEquals(0, game.getMoves(new int[ConnectFour.WIDTH]));
+	}
+
+	@Test
+	public void testUndo(){
+		ConnectFour game = new ConnectFour();
+		int[] vertical = {4, 5, 4, 5, 4, 5};
+		for(int x : vertical)
+			game.play(x);
+		ConnectFour before = (ConnectFour) game.clone();
+		game.play(4);
+		assertEquals('X', game.getResult());
+		game.undo(4);
+		assertEquals(before, game);
+		assertEquals(before.getHash(), game.getHash());
+		assertEquals(Ilayout.ONGOING, game.getResult());
+		assertEquals('X', game.getTurn());
+	}
+
+	@Test
+	public void testGetMoves(){
+		String input =	"X------\n"+
+						"O------\n"+
+						"X------\n"+
+						"O-----X\n"+
+						"X-----O\n"+
+						"O-----X\n";
+		ConnectFour game = new ConnectFour(input);
+		int[] moves = new int[game.getMaxMoves()];
+		assertEquals(6, game.getMoves(moves));
+		for(int i = 0; i < 6; i++)
+			assertEquals(i + 1, moves[i]);
+	}
+
+	@Test
+	public void testFindWinningColumn(){
+		String input =	"-------\n"+
+						"-------\n"+
+						"-------\n"+
+						"-------\n"+
+						"--OO---\n"+
+						"-XXX-O-\n";
+		ConnectFour game = new ConnectFour(input);
+		assertEquals(0, game.findWinningMove('X'));
+		assertEquals(-1, game.findWinningMove('O'));
+		input =	"-------\n"+
+				"-------\n"+
+				"-------\n"+
+				"---OO--\n"+
+				"--OXX--\n"+
+				"XOXXO--\n";
+		assertEquals(4, new ConnectFour(input).findWinningMove('O'));	// diagonal, ending on top of column 4
+		input =	"-------\n"+
+				"-------\n"+
+				"-------\n"+
+				"---O---\n"+
+				"--OXX--\n"+
+				"XOXXO--\n";
+		assertEquals(-1, new ConnectFour(input).findWinningMove('O'));	// the winning cell isn't playable yet
+	}
+
+	@Test
+	public void testEqualsAndHashCode(){
+		ConnectFour a = new ConnectFour();
+		ConnectFour b = new ConnectFour();
+		a.play(3);
+		a.play(2);
+		a.play(4);
+		b.play(4);
+		b.play(2);
+		b.play(3);
+		assertEquals(a, b);
+		assertEquals(a.getHash(), b.getHash());
+		assertEquals(a.hashCode(), b.hashCode());
+		b.undo(3);
+		b.play(5);
+		assertNotEquals(a, b);
+		assertNotEquals(a.getHash(), b.getHash());
+		assertNotEquals(new ConnectFour(), new TicTacToe());
+		assertNotEquals(new ConnectFour(), "x");
+		assertNotEquals(new ConnectFour(), null);
+	}
+
+	@Test
+	public void testCopyFrom(){
+		ConnectFour game = new ConnectFour();
+		game.play(3);
+		ConnectFour copy = new ConnectFour();
+		copy.copyFrom((Ilayout) game);
+		assertEquals(game, copy);
+		copy.play(3);
+		assertNotEquals(game, copy);
+		assertEquals(game, game.copy());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCopyFromOtherGame(){
+		new ConnectFour().copyFrom(new TicTacToe());
+	}
+
+	@Test
+	public void testSearch(){
+		String input =	"-------\n"+
+						"-------\n"+
+						"-------\n"+
+						"-------\n"+
+						"O-O----\n"+
+						"XXX-O--\n";
+		ConnectFour game = new ConnectFour(input);
+		MCTS mcts = new MCTS(2000);
+		mcts.setSeed(7);
+		assertEquals(3, mcts.findNextMove(game, game.getTurn()).getLastPlayed());
+	}
+}
\ No newline at end of file
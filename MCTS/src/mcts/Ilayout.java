@@ -0,0 +1,150 @@
+package mcts;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Game config searched by MCTS
+ * the engine only goes through the move API (getMoves, play, undo, getTurn, getResult...), so any two player game
+ * that implements it can be searched, moves being ints chosen by the game (a cell, a column...)
+ */
+interface Ilayout{
+	/**
+	 * result of a game that isn't over yet
+	 */
+	char ONGOING = '?';
+
+	/**
+	 * result of a game that ended in a draw
+	 */
+	char DRAW = '-';
+
+	/**
+	 * @return children of reciever, built from the move API unless the game has a faster way
+	*/
+	default List<Ilayout> children() {
+		int[] moves = new int[getMaxMoves()];
+		int count = getMoves(moves);
+		List<Ilayout> result = new ArrayList<>(count);
+		for(int i = 0; i < count; i++) {
+			Ilayout child = copy();
+			child.play(moves[i]);
+			result.add(child);
+		}
+		return result;
+	}
+
+	/**
+	 * @return bool if game is over
+	*/
+	boolean gameOver();
+
+	/**
+	 * @param player char representing the player whose wins will be returned
+	 * @return amount of wins
+	*/
+	int getWins(char player);
+
+	/**
+	 * @return amount of visits
+	 */
+	int getVisits();
+
+	/**
+	 * @param player char that represents the player
+	 * @return whether or not the arg is a valid player
+	 */
+	boolean isValidPlayer(char player);
+
+	/**
+	 * @return most moves a position of this game can have, the size of the buffers given to getMoves
+	 */
+	int getMaxMoves();
+
+	/**
+	 * writes the legal moves into a buffer
+	 * @param moves buffer with room for at least getMaxMoves() moves
+	 * @return amount of moves written, 0 once the game is over
+	 */
+	int getMoves(int[] moves);
+
+	/**
+	 * plays a move for the player whose turn it is
+	 * @param move one of the moves listed by getMoves
+	 */
+	void play(int move);
+
+	/**
+	 * takes back a move, the inverse of play
+	 * @param move the last move played
+	 */
+	void undo(int move);
+
+	/**
+	 * @return char representing the player whose turn it is
+	 */
+	char getTurn();
+
+	/**
+	 * @param player char that represents one of the players
+	 * @return char that represents the other player, 'X' and 'O' unless the game uses other chars
+	 */
+	default char getOpponent(char player) {
+		return player == 'X' ? 'O' : 'X';
+	}
+
+	/**
+	 * @return the winner, DRAW or ONGOING if the game isn't over
+	 */
+	char getResult();
+
+	/**
+	 * looks for a move that wins the game right away for a player, used by TacticalPolicy
+	 * by default each move is played and taken back, which only works for the player whose turn it is,
+	 * games that can find the winning moves of both players without playing them should override it
+	 * @param player char that represents one of the players
+	 * @return such a move or -1 if there is none or it can't be found for that player
+	 */
+	default int findWinningMove(char player) {
+		if(player != getTurn() || getResult() != ONGOING)
+			return -1;
+		int[] moves = new int[getMaxMoves()];
+		int count = getMoves(moves);
+		for(int i = 0; i < count; i++) {
+			play(moves[i]);
+			char result = getResult();
+			undo(moves[i]);
+			if(result == player)
+				return moves[i];
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the move that led to this config
+	 */
+	int getLastPlayed();
+
+	/**
+	 * @return hash of the config, the same for equal configs
+	 */
+	long getHash();
+
+	/**
+	 * @return a new layout with the same config
+	 */
+	Ilayout copy();
+
+	/**
+	 * @param other any layout
+	 * @return true if other is the same game with the same size, so copyFrom(other) can be called
+	 */
+	boolean canCopyFrom(Ilayout other);
+
+	/**
+	 * overwrites this config with the config of other, used to reuse an instance instead of copying
+	 * @param other layout of the same game and size
+	 * @throws IllegalArgumentException if other is another game or has another size, see canCopyFrom
+	 */
+	void copyFrom(Ilayout other) throws IllegalArgumentException;
+}
\ No newline at end of file
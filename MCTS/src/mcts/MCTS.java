@@ -0,0 +1,2236 @@
+package mcts;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Class responsible for implementing the Monte Carlo Tree Search algorithm
+ * an instance with more than one thread keeps a pool of workers once it has searched, close() stops them
+ */
+class MCTS implements AutoCloseable {
+
+	/**
+	 * State class which the tree is made out of
+	 * holds the config of the game and information for the MCTS algo
+	 */
+	static class State{
+
+		/**
+		 * handles used to update the statistics and publish the children without locks,
+		 * so many threads can work on the same tree (tree parallelization)
+		 */
+		private static final VarHandle VISITS;
+		private static final VarHandle WIN_SCORE;
+		private static final VarHandle AMAF_VISITS;
+		private static final VarHandle AMAF_SCORE;
+		private static final VarHandle CHILD_ARRAY;
+
+		static {
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				VISITS = lookup.findVarHandle(State.class, "visits", int.class);
+				WIN_SCORE = lookup.findVarHandle(State.class, "winScore", int.class);
+				AMAF_VISITS = lookup.findVarHandle(State.class, "amafVisits", int.class);
+				AMAF_SCORE = lookup.findVarHandle(State.class, "amafScore", int.class);
+				CHILD_ARRAY = lookup.findVarHandle(State.class, "childArray", List.class);
+			} catch(ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		/**
+		 * Game config
+		 */
+		private Ilayout layout;
+		
+		/**
+		 * State parent
+		 */
+		private State father;
+
+		/**
+		 * Indicates which player this State belongs to
+		 */
+		private char player;
+
+		/**
+		 * amount of visits this instance has had
+		 */
+		private int visits;
+
+		/**
+		 * current win score of this state
+		 */
+		private int winScore;
+
+		/**
+		 * move played by the father to reach this state, -1 for roots
+		 * with transpositions on it is the move played by the father that created the state
+		 */
+		private int move = -1;
+
+		/**
+		 * all moves as first statistics (RAVE): playouts through the father in which player played move
+		 * at any later point, and the score this state's player got from them
+		 */
+		private int amafVisits;
+		private int amafScore;
+
+		/**
+		 * result of the layout, worked out the first time it is needed:
+		 * NOT_COMPUTED or what Ilayout.getResult says
+		 */
+		private char result = NOT_COMPUTED;
+
+		private static final char NOT_COMPUTED = 0;
+
+		/**
+		 * winner of this state under perfect play once the solver proved it: 'O', 'X', '-' for a draw or UNPROVEN
+		 * a state is proven when it is terminal, when the player to move has a child proven to win for them,
+		 * or when every move was tried and all of its children are proven
+		 */
+		private volatile char proven = UNPROVEN;
+
+		/**
+		 * children of this state instance
+		 * volatile since the tree parallel search never changes a list other threads may be reading, it swaps in a new one
+		 */
+		private volatile List<State> childArray;
+
+		/**
+		 * moves of the layout that don't have a child yet, null until the state is first expanded
+		 * children are created one per expansion, so most moves of a wide state never get a layout
+		 */
+		private int[] untriedMoves;
+		private int untriedCount;
+
+		/**
+		 * amount of moves of the layout, set along with the untried moves
+		 * the solver compares it with the children instead of using isFullyExpanded, since a child is only
+		 * published after its move leaves the untried moves
+		 */
+		private int moveCount;
+
+		/**
+		 * Constructor that recives a game config
+		 * Sets child array to empty arraylist
+		 * @param layout Ilayout that reprensents the config of the game
+		 */
+		public State(Ilayout layout) {
+			this.setLayout(layout);
+			this.setChildArray(new ArrayList<>());
+		}
+
+		/**
+		 * uses the layout's toString method
+		 * @return the layout as a string
+		 */
+		public String toString(){
+			return layout.toString();
+		}
+
+		/**
+		 * getter for the layout
+		 * @return this instance's layout
+		 */
+		public Ilayout getLayout() {
+			return layout;
+		}
+
+		/**
+		 * setter for the layout
+		 * @param layout takes a Ilayout game config
+		 */
+		public void setLayout(Ilayout layout) {
+			this.layout = layout;
+			this.result = NOT_COMPUTED;
+		}
+
+		/**
+		 * asks the layout how the game stands once and keeps the answer
+		 * (racing threads can only compute the same answer, so no synchronization is needed)
+		 * @return the winner, Ilayout.DRAW or Ilayout.ONGOING if the game isn't over
+		 */
+		public char getResult() {
+			char r = this.result;
+			if(r == NOT_COMPUTED)
+				this.result = r = layout.getResult();
+			return r;
+		}
+
+		/**
+		 * @return true if the game is over in this state
+		 */
+		public boolean isTerminal() {
+			return getResult() != Ilayout.ONGOING;
+		}
+
+		/**
+		 * getter for this state's father
+		 * @return State father
+		 */
+		public State getFather() {
+			return father;
+		}
+
+		/**
+		 * setter for this state's father
+		 * @param father State to be set as father
+		 */
+		public void setFather(State father) {
+			this.father = father;
+		}
+
+		/**
+		 * getter for the list of children
+		 * @return this state's list of children
+		 */
+		public List<State> getChildArray() {
+			return childArray;
+		}
+
+		/**
+		 * setter for the list of children
+		 * @param childArray list of children
+		 */
+		public void setChildArray(List<State> childArray) {
+			this.childArray = childArray;
+		}
+
+		/**
+		 * getter for player
+		 * @return player as character
+		 */
+		public char getPlayer() {
+			return player;
+		}
+
+		/**
+		 * setter for player
+		 * @param player a char representing the player (either 'O' or 'X')
+		 */
+		public void setPlayer(char player) {
+			if(layout.isValidPlayer(player))
+				this.player = player;
+		}
+
+		/**
+		 * @return char representing the opponent of the player of the current player
+		 */
+		public char getOpponent() {
+			return layout.getOpponent(player);
+		}
+
+		/**
+		 * getter for the visits
+		 * @return an int representing the amount of visits this State has had
+		 */
+		public int getVisits() {
+			return visits;
+		}
+
+		/**
+		 * increments the visits for when this State is visitied in the algorithm
+		 */
+		public void incrementVisits() {
+			VISITS.getAndAdd(this, 1);
+		}
+
+		/**
+		 * adds to the visits atomically, negative amounts are used to take back virtual losses
+		 * @param amount int to add to the visits
+		 */
+		public void addVisits(int amount) {
+			VISITS.getAndAdd(this, amount);
+		}
+		
+		/**
+		 * getter for the win score
+		 * @return an int representing the win score of this node
+		 */
+		public int getWinScore() {
+			return winScore;
+		}
+
+		/**
+		 * setter for win score
+		 * @param winScore and int representing the new win score of this state
+		 */
+		public void setWinScore(int winScore) {
+			WIN_SCORE.setVolatile(this, winScore);
+		}
+
+		/**
+		 * getter for the move
+		 * @return the move played by the father to reach this state or -1 if it isn't known
+		 */
+		public int getMove() {
+			return move;
+		}
+
+		/**
+		 * setter for the move
+		 * @param move the move played by the father to reach this state
+		 */
+		void setMove(int move) {
+			this.move = move;
+		}
+
+		/**
+		 * getter for the amaf visits
+		 * @return amount of playouts through the father in which this state's move was played by its player
+		 */
+		public int getAmafVisits() {
+			return amafVisits;
+		}
+
+		/**
+		 * getter for the amaf score
+		 * @return score this state's player got from the playouts counted by the amaf visits
+		 */
+		public int getAmafScore() {
+			return amafScore;
+		}
+
+		/**
+		 * counts a playout for the amaf statistics, atomically
+		 * @param score an int representing the score of the playout
+		 */
+		void addAmaf(int score) {
+			AMAF_VISITS.getAndAdd(this, 1);
+			if(score != 0)
+				AMAF_SCORE.getAndAdd(this, score);
+		}
+
+		/**
+		 * adds the statistics of a state from another tree to this one (root parallelization)
+		 * a state proven in either tree stays proven
+		 * @param other State with the same layout as this one
+		 */
+		public void merge(State other) {
+			this.visits += other.getVisits();
+			this.addScore(other.getWinScore());
+			AMAF_VISITS.getAndAdd(this, other.getAmafVisits());
+			AMAF_SCORE.getAndAdd(this, other.getAmafScore());
+			if(other.proven != UNPROVEN)
+				this.proven = other.proven;
+		}
+
+		/**
+		 * part of the backpropagation phase
+		 * updates this State's score
+		 * @param score an int representing the score
+		 */
+		public void addScore(int score) {
+			WIN_SCORE.getAndAdd(this, score);
+		}
+
+		/**
+		 * getter for the proven winner, a terminal state is proven by its own result
+		 * @return the winner under perfect play ('O' or 'X'), '-' for a draw or UNPROVEN
+		 */
+		public char getProven() {
+			char p = this.proven;
+			if(p == UNPROVEN && isTerminal())
+				this.proven = p = getResult();
+			return p;
+		}
+
+		/**
+		 * setter for the proven winner, used when a tree is loaded
+		 * @param proven the winner under perfect play ('O' or 'X'), '-' for a draw or UNPROVEN
+		 */
+		void setProven(char proven) {
+			this.proven = proven;
+		}
+
+		/**
+		 * @return true if the solver knows the outcome of this state
+		 */
+		public boolean isProven() {
+			return getProven() != UNPROVEN;
+		}
+
+		/**
+		 * tries to prove this state from its children
+		 * the player to move wins if any child is a proven win for them, otherwise once every move was tried
+		 * and every child is proven the state is a draw if any child is, or a win for the player of this state
+		 * @return true if this state is proven
+		 */
+		public boolean prove() {
+			if(isProven())
+				return true;
+			List<State> children = this.childArray;
+			char toMove = getOpponent();
+			boolean all = this.moveCount > 0 && children.size() == this.moveCount;
+			boolean draw = false;
+			for(int i = 0, n = children.size(); i < n; i++) {
+				char p = children.get(i).getProven();
+				if(p == toMove) {
+					this.proven = toMove;
+					return true;
+				}
+				if(p == UNPROVEN)
+					all = false;
+				else if(p == Ilayout.DRAW)
+					draw = true;
+			}
+			if(!all)
+				return false;
+			this.proven = draw ? Ilayout.DRAW : this.player;
+			return true;
+		}
+
+		/**
+		 * @return true if every move of this state already has a child
+		 */
+		public boolean isFullyExpanded() {
+			return this.untriedMoves != null && this.untriedCount == 0;
+		}
+
+		/**
+		 * @return true if the untried moves were already listed
+		 */
+		boolean hasUntried() {
+			return this.untriedMoves != null;
+		}
+
+		/**
+		 * sets the moves that are yet to get a child
+		 * @param moves buffer with the legal moves of the layout
+		 * @param count amount of moves in the buffer
+		 */
+		void setUntriedMoves(int[] moves, int count) {
+			setUntriedMoves(moves, count, count);
+		}
+
+		/**
+		 * sets the moves that are yet to get a child, for a state that may already have some children
+		 * @param moves buffer with the moves that have no child
+		 * @param count amount of moves in the buffer
+		 * @param moveCount amount of moves of the layout, with or without a child
+		 */
+		void setUntriedMoves(int[] moves, int count, int moveCount) {
+			this.untriedMoves = Arrays.copyOf(moves, count);
+			this.untriedCount = count;
+			this.moveCount = moveCount;
+		}
+
+		/**
+		 * takes a random untried move
+		 * callers must hold the lock of this state
+		 * @param random generator that picks the move
+		 * @return the move or -1 if there are no untried moves left
+		 */
+		int takeUntriedMove(RandomGenerator random) {
+			if(this.untriedCount == 0)
+				return -1;
+			int i = random.nextInt(this.untriedCount);
+			int move = this.untriedMoves[i];
+			this.untriedMoves[i] = this.untriedMoves[--this.untriedCount];
+			return move;
+		}
+
+		/**
+		 * removes a child and gives its move back to the untried moves, so it can be expanded again
+		 * the statistics of this state are left as they are, they still count the playouts of the child
+		 * @param child one of the children of this state
+		 * @return false if the move of the child isn't known, the child is then kept
+		 */
+		synchronized boolean evictChild(State child) {
+			if(this.untriedMoves == null || child.move < 0)
+				return false;
+			if(this.untriedCount == this.untriedMoves.length)
+				this.untriedMoves = Arrays.copyOf(this.untriedMoves, this.untriedCount + 1);
+			this.untriedMoves[this.untriedCount++] = child.move;
+			List<State> current;
+			List<State> updated;
+			do {
+				current = this.childArray;
+				updated = new ArrayList<>(current);
+				updated.remove(child);
+			} while(!CHILD_ARRAY.compareAndSet(this, current, updated));
+			return true;
+		}
+
+		/**
+		 * clears everything but the layout, for a state that left the tree and waits to be reused
+		 */
+		void clear() {
+			this.father = null;
+			this.player = 0;
+			this.move = -1;
+			this.visits = 0;
+			this.winScore = 0;
+			this.amafVisits = 0;
+			this.amafScore = 0;
+			this.result = NOT_COMPUTED;
+			this.proven = UNPROVEN;
+			this.childArray = new ArrayList<>();
+			this.untriedMoves = null;
+			this.untriedCount = 0;
+			this.moveCount = 0;
+		}
+
+		/**
+		 * appends a child to the list in place, for a tree that no other thread is reading
+		 * @param child State to add
+		 */
+		public void addChild(State child) {
+			this.childArray.add(child);
+		}
+
+		/**
+		 * appends a child by swapping in a copy of the list, safe to call while other threads read the children
+		 * the copy costs a pass over the children, so only the tree parallel search uses it
+		 * @param child State to add
+		 */
+		public void publishChild(State child) {
+			List<State> current;
+			List<State> updated;
+			do {
+				current = this.childArray;
+				updated = new ArrayList<>(current.size() + 1);
+				updated.addAll(current);
+				updated.add(child);
+			} while(!CHILD_ARRAY.compareAndSet(this, current, updated));
+		}
+
+		/**
+		 * applies a random factor to chose a child
+		 * @param random generator that picks the child
+		 * @return a random child state
+		 */
+		public State getRandomChildState(RandomGenerator random) {
+			List<State> children = this.childArray;
+			int possibleMoves =  children.size();
+			int randomSelect = random.nextInt(possibleMoves);
+			return children.get(randomSelect);
+		}
+
+		/**
+		 * chooses the child with the max score
+		 * a child proven to win is taken right away and children proven to lose are only taken if there is nothing else,
+		 * otherwise the most visited child wins
+		 * @return a State which is the child with the highest score
+		 */
+		public State getChildWithMaxScore() {
+			char toMove = getOpponent();
+			State best = null;
+			boolean bestLoses = true;
+			for(State c : this.childArray) {
+				char p = c.getProven();
+				if(p == toMove)
+					return c;
+				boolean loses = p != UNPROVEN && p != Ilayout.DRAW;
+				if(best == null || (bestLoses && !loses) || (bestLoses == loses && c.getVisits() > best.getVisits())) {
+					best = c;
+					bestLoses = loses;
+				}
+			}
+			return best;
+		}
+	}
+
+	/**
+	 * proven winner of a state or node that the solver hasn't proven yet
+	 */
+	static final char UNPROVEN = 0;
+
+	/**
+	 * score value to be added to a winning score
+	 */
+	private final int WIN_SCORE = 10;
+
+	/**
+	 * visits added to every state on the path of a running simulation in the tree parallel search,
+	 * so the other threads see it as a worse option for a while and spread through other branches
+	 */
+	private final int VIRTUAL_LOSS = 3;
+
+	/**
+	 * amount of simulations between two reads of the clock in a search with a deadline
+	 */
+	private static final int CLOCK_CHECK_INTERVAL = 64;
+
+	/**
+	 * deadline value that stands for a search without a time limit
+	 */
+	private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+	/**
+	 * time budgets from this one on (about 146 years) are searched as if they had no time limit
+	 */
+	private static final Duration UNLIMITED = Duration.ofNanos(Long.MAX_VALUE / 2);
+
+	/**
+	 * visit counts below this bound read their uct terms from the tables instead of calling log and sqrt
+	 */
+	private static final int UCT_TABLE_SIZE = 4096;
+
+	/**
+	 * sqrt(log(n)) for every parent visit count n below UCT_TABLE_SIZE, 0 for n <= 1
+	 */
+	private static final double[] SQRT_LOG = new double[UCT_TABLE_SIZE];
+
+	/**
+	 * 1 / sqrt(n) for every child visit count n below UCT_TABLE_SIZE, unused for n = 0
+	 */
+	private static final double[] INV_SQRT = new double[UCT_TABLE_SIZE];
+
+	static {
+		for(int n = 1; n < UCT_TABLE_SIZE; n++) {
+			SQRT_LOG[n] = Math.sqrt(Math.log(n));
+			INV_SQRT[n] = 1 / Math.sqrt(n);
+		}
+	}
+
+	/**
+	 * algorithm of the random generators unless setRandomAlgorithm picks another one
+	 */
+	private static final String DEFAULT_RANDOM = "SplittableRandom";
+
+	/**
+	 * indexes of the phases in phaseNanos
+	 */
+	private static final int SELECTION = 0;
+	private static final int EXPANSION = 1;
+	private static final int SIMULATION = 2;
+	private static final int BACK_PROPAGATION = 3;
+
+	/**
+	 * an eviction frees this share of the node budget, so it only runs once every budget / EVICTION_SHARE expansions
+	 */
+	private static final int EVICTION_SHARE = 4;
+
+	/**
+	 * rave equivalence parameter unless setRaveEquivalence picks another one
+	 */
+	private static final double DEFAULT_RAVE_EQUIVALENCE = 300;
+
+	/**
+	 * factor to be used in the uct value function
+	 */
+	private double EXPLORATION_FACTOR = 4 * Math.sqrt(2);
+
+	/**
+	 * picks the moves of the playouts
+	 */
+	private PlayoutPolicy playoutPolicy = new RandomPolicy();
+
+	/**
+	 * when true the selection blends the all moves as first statistics of each child into its mean score (RAVE)
+	 */
+	private boolean rave;
+
+	/**
+	 * visits at which a child's own mean score and its amaf mean have the same weight
+	 */
+	private double raveEquivalence = DEFAULT_RAVE_EQUIVALENCE;
+
+	/**
+	 * true while a search keeps amaf statistics, RAVE being on and the search able to tell the moves of the playouts
+	 */
+	private boolean amaf;
+
+	/**
+	 * moves of the last playout and the player of each one, in the order they were played, only kept while amaf is on
+	 */
+	private int[] playoutMoves = new int[TicTacToe.SIZE];
+	private char[] playoutPlayers = new char[TicTacToe.SIZE];
+	private int playoutLength;
+
+	/**
+	 * player that played each move first after the state being updated by updateAmaf, 0 for moves that weren't played
+	 */
+	private char[] firstPlayedBy = new char[TicTacToe.SIZE];
+
+	/**
+	 * number of simulations to be made for each turn
+	 */
+	private int simulations;
+
+	/**
+	 * number of threads used by findNextMove, each one grows its own tree from the same layout (root parallelization)
+	 */
+	private int threads = 1;
+
+	/**
+	 * one search instance per thread, each with its own scratch board, created on the first parallel search
+	 */
+	private MCTS[] workers;
+
+	/**
+	 * pool that runs the workers, created on the first parallel search
+	 */
+	private ExecutorService pool;
+
+	/**
+	 * when true (and there is more than one thread) all threads share the same tree instead of growing one each
+	 */
+	private boolean treeParallel;
+
+	/**
+	 * when true the tree is kept between calls of findNextMove and the next search starts from the matching state
+	 */
+	private boolean reuseTree;
+
+	/**
+	 * tree of the last search, its root is the state of the move that was returned
+	 */
+	private Tree tree;
+
+	/**
+	 * table linking states with the same layout, null when transpositions are off
+	 */
+	private TranspositionTable table;
+
+	/**
+	 * states visited by the current simulation, from the root to the state that was simulated
+	 * backpropagation follows this path instead of the fathers since with transpositions a state can have many parents
+	 */
+	private final List<State> path = new ArrayList<>();
+
+	/**
+	 * primitive tree store used instead of States by the single threaded search, null when off
+	 */
+	private NodePool nodes;
+
+	/**
+	 * virtual loss applied by this instance during selection, 0 unless it is a worker of the tree parallel search
+	 */
+	private int virtualLoss;
+
+	/**
+	 * a char that represents the player that the mcts algorithm is benefiting
+	 */
+	private char player;
+
+	/**
+	 * a char that represents the player that the mcts algorithm is fighting against
+	 */
+	private char opponent;
+
+	/**
+	 * board reused by every playout of this instance so simulations don't allocate a new game,
+	 * replaced when a search starts from another game or size
+	 */
+	private Ilayout scratch;
+
+	/**
+	 * buffer for the legal moves of the scratch board at each ply of a playout, grows for games with more moves
+	 */
+	private int[] moveBuffer = new int[TicTacToe.SIZE];
+
+	/**
+	 * algorithm of the random generators of this instance and its workers
+	 */
+	private RandomGeneratorFactory<RandomGenerator> randomFactory = RandomGeneratorFactory.of(DEFAULT_RANDOM);
+
+	/**
+	 * stream of random numbers of this instance, used by expansion and the playouts
+	 * never shared with another thread, every worker has its own
+	 */
+	private RandomGenerator random = this.randomFactory.create();
+
+	/**
+	 * when true every search starts the random streams from seed, so its result can be reproduced
+	 */
+	private boolean seeded;
+	private long seed;
+
+	/**
+	 * when true the time of each phase is measured, which reads the clock four times per simulation
+	 */
+	private boolean profiling;
+
+	/**
+	 * perfect play looked up before searching a TicTacToe position, null to always search
+	 */
+	private PerfectPlayTable perfectPlay;
+
+	/**
+	 * when true the result of a search carries the statistics of every child of the root
+	 */
+	private boolean rootStatistics;
+
+	/**
+	 * notified before and after every search, null when there is none
+	 */
+	private SearchListener listener;
+
+	/**
+	 * most states the tree of a search may hold before the least visited subtrees are evicted, 0 for no limit
+	 */
+	private int nodeBudget;
+
+	/**
+	 * states in the tree being grown, only counted while the node budget applies
+	 */
+	private int treeSize;
+
+	/**
+	 * evicted states kept to be reused by the next expansions, along with their layouts
+	 */
+	private final ArrayDeque<State> freeStates = new ArrayDeque<>();
+
+	/**
+	 * nodes added to the tree by this instance in the current search
+	 */
+	private int createdNodes;
+
+	/**
+	 * nodes evicted from the tree by this instance in the current search
+	 */
+	private int evictedNodes;
+
+	/**
+	 * deepest state reached by this instance in the current search
+	 */
+	private int maxDepth;
+
+	/**
+	 * time spent by this instance in each phase of the current search, only measured when profiling
+	 */
+	private final long[] phaseNanos = new long[4];
+	
+	/**
+	 * constructor that sets the simulations attribute
+	 * @param simulations int to be set as the simulations attribute
+	 */
+	public MCTS(int simulations) {
+		this.simulations = simulations;
+	}
+
+	/**
+	 * constructor for the root parallel search, the simulations are split between the threads
+	 * @param simulations int to be set as the simulations attribute
+	 * @param threads amount of threads (and trees) used by each search, 1 keeps the single threaded search
+	 * @throws IllegalArgumentException if threads is less than 1
+	 */
+	public MCTS(int simulations, int threads) throws IllegalArgumentException {
+		if(threads < 1)
+			throw new IllegalArgumentException("threads must be at least 1, got "+threads);
+		this.simulations = simulations;
+		this.threads = threads;
+	}
+
+	/**
+	 * getter for simulations
+	 */
+	public int getSimulations() {
+		return simulations;
+	}
+
+	/**
+	 * getter for threads
+	 * @return amount of threads used by each search
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * getter for treeParallel
+	 * @return true if the threads share a single tree
+	 */
+	public boolean isTreeParallel() {
+		return treeParallel;
+	}
+
+	/**
+	 * setter for treeParallel, has no effect with a single thread
+	 * @param treeParallel true for all threads to search the same tree, false for one tree per thread
+	 */
+	public void setTreeParallel(boolean treeParallel) {
+		this.treeParallel = treeParallel;
+	}
+
+	/**
+	 * getter for the exploration factor
+	 * @return factor of the exploration term of the uct value
+	 */
+	public double getExplorationFactor() {
+		return EXPLORATION_FACTOR;
+	}
+
+	/**
+	 * setter for the exploration factor, higher values spread the simulations over more moves
+	 * @param explorationFactor factor of the exploration term of the uct value
+	 * @throws IllegalArgumentException if explorationFactor is negative or not a number
+	 */
+	public void setExplorationFactor(double explorationFactor) throws IllegalArgumentException {
+		if(!(explorationFactor >= 0))
+			throw new IllegalArgumentException("exploration factor must not be negative: "+explorationFactor);
+		this.EXPLORATION_FACTOR = explorationFactor;
+	}
+
+	/**
+	 * getter for the playout policy
+	 * @return the policy that picks the moves of the playouts
+	 */
+	public PlayoutPolicy getPlayoutPolicy() {
+		return playoutPolicy;
+	}
+
+	/**
+	 * setter for the playout policy, e.g. a TacticalPolicy instead of the default RandomPolicy
+	 * @param playoutPolicy the policy that picks the moves of the playouts
+	 * @throws IllegalArgumentException if playoutPolicy is null
+	 */
+	public void setPlayoutPolicy(PlayoutPolicy playoutPolicy) throws IllegalArgumentException {
+		if(playoutPolicy == null)
+			throw new IllegalArgumentException("playout policy must not be null");
+		this.playoutPolicy = playoutPolicy;
+	}
+
+	/**
+	 * getter for rave
+	 * @return true if the selection uses the all moves as first statistics
+	 */
+	public boolean isRave() {
+		return rave;
+	}
+
+	/**
+	 * turns RAVE on or off: every playout also counts for the children whose move was played later on by the same player,
+	 * and the selection mixes those statistics into the mean score with a weight that fades as the child gets visits
+	 * only used by the searches on States without transpositions, the node pool is skipped while it is on
+	 * @param rave true to turn RAVE on
+	 */
+	public void setRave(boolean rave) {
+		this.rave = rave;
+	}
+
+	/**
+	 * getter for the rave equivalence
+	 * @return visits at which a child's own mean score and its amaf mean have the same weight
+	 */
+	public double getRaveEquivalence() {
+		return raveEquivalence;
+	}
+
+	/**
+	 * setter for the rave equivalence, the amaf mean of a child with n visits has a weight of sqrt(k / (3n + k))
+	 * @param raveEquivalence k, higher values trust the amaf statistics for longer
+	 * @throws IllegalArgumentException if raveEquivalence is not positive
+	 */
+	public void setRaveEquivalence(double raveEquivalence) throws IllegalArgumentException {
+		if(!(raveEquivalence > 0))
+			throw new IllegalArgumentException("rave equivalence must be positive: "+raveEquivalence);
+		this.raveEquivalence = raveEquivalence;
+	}
+
+	/**
+	 * getter for reuseTree
+	 * @return true if the tree is kept between searches
+	 */
+	public boolean isReuseTree() {
+		return reuseTree;
+	}
+
+	/**
+	 * setter for reuseTree, turning it off also drops the kept tree
+	 * the tree isn't reused by the root parallel search since every thread grows its own tree
+	 * @param reuseTree true to keep the tree between searches
+	 */
+	public void setReuseTree(boolean reuseTree) {
+		this.reuseTree = reuseTree;
+		if(!reuseTree)
+			this.tree = null;
+	}
+
+	/**
+	 * getter for the tree of the last search
+	 * @return the tree rooted at the last returned move, null before the first search
+	 */
+	public Tree getTree() {
+		return tree;
+	}
+
+	/**
+	 * setter for the tree, the next search with reuseTree continues from it when its root or one of the
+	 * children of the root matches the layout, e.g. a tree loaded by TreeSnapshot.read
+	 * @param tree the tree to continue from, null to drop the kept tree
+	 */
+	public void setTree(Tree tree) {
+		this.tree = tree;
+	}
+
+	/**
+	 * getter for the node budget
+	 * @return most states the tree of a search may hold, 0 for no limit
+	 */
+	public int getNodeBudget() {
+		return nodeBudget;
+	}
+
+	/**
+	 * bounds the tree of the searches on States: once it holds nodeBudget states, the subtrees with the least visits
+	 * are evicted until a quarter of the budget is free, and their states are reused by the next expansions
+	 * the fathers keep the statistics of the evicted children and get their moves back as untried moves,
+	 * the root, its children and the proven states are never evicted, only the children of the proven states
+	 * other than the one that proves them,
+	 * so a budget below the moves of the root can't be kept: the tree then grows by a quarter between two evictions
+	 * the root parallel search splits the budget between its threads; the tree parallel search, the node pool
+	 * and the searches with transpositions aren't bounded
+	 * while the budget is on, the moves handed out by findNextMove are copies, since the states of the tree get reused
+	 * @param nodeBudget most states of the tree, 0 for no limit
+	 * @throws IllegalArgumentException if nodeBudget is negative
+	 */
+	public void setNodeBudget(int nodeBudget) throws IllegalArgumentException {
+		if(nodeBudget < 0)
+			throw new IllegalArgumentException("node budget must not be negative: "+nodeBudget);
+		this.nodeBudget = nodeBudget;
+		if(nodeBudget == 0)
+			this.freeStates.clear();
+	}
+
+	/**
+	 * getter for the size of the transposition table
+	 * @return amount of states the table can hold, 0 if transpositions are off
+	 */
+	public int getTranspositionTableSize() {
+		return table == null ? 0 : table.capacity();
+	}
+
+	/**
+	 * turns transpositions on or off, states reached through different move orders share the same State when on
+	 * @param size amount of states the table can hold (rounded up to a power of two), 0 to turn transpositions off
+	 */
+	public void setTranspositionTableSize(int size) {
+		this.table = size == 0 ? null : new TranspositionTable(size);
+	}
+
+	/**
+	 * getter for nodePool
+	 * @return true if the single threaded search keeps its tree in a NodePool
+	 */
+	public boolean isNodePool() {
+		return nodes != null;
+	}
+
+	/**
+	 * makes the single threaded search keep its tree in a NodePool of primitive arrays instead of States
+	 * the pool is reused by every search of this instance; the tree isn't kept between searches
+	 * and transpositions aren't used in this mode, the parallel searches and RAVE always use States
+	 * @param nodePool true to use the pool
+	 */
+	public void setNodePool(boolean nodePool) {
+		if(!nodePool)
+			this.nodes = null;
+		else if(this.nodes == null)
+			this.nodes = new NodePool(1024);
+	}
+
+	/**
+	 * getter for profiling
+	 * @return true if the time of each phase is measured
+	 */
+	public boolean isProfiling() {
+		return this.profiling;
+	}
+
+	/**
+	 * setter for profiling, off by default since reading the clock costs about as much as selection in small trees
+	 * the size and depth of the tree are counted either way
+	 * @param profiling true to measure the time of each phase
+	 */
+	public void setProfiling(boolean profiling) {
+		this.profiling = profiling;
+	}
+
+	/**
+	 * getter for the random algorithm
+	 * @return name of the algorithm of the random generators
+	 */
+	public String getRandomAlgorithm() {
+		return this.randomFactory.name();
+	}
+
+	/**
+	 * setter for the random algorithm, SplittableRandom by default
+	 * @param algorithm name of a java.util.random algorithm, e.g. "SplittableRandom", "Xoroshiro128PlusPlus" or "L64X128MixRandom"
+	 * @throws IllegalArgumentException if there is no algorithm with that name
+	 */
+	public void setRandomAlgorithm(String algorithm) throws IllegalArgumentException {
+		this.randomFactory = RandomGeneratorFactory.of(algorithm);
+		this.random = this.randomFactory.create();
+	}
+
+	/**
+	 * sets the seed every search starts from, making the result of findNextMove reproducible for the same
+	 * layout, simulations and settings (searches with a deadline or with the tree parallel search still depend on timing)
+	 * each worker of the root parallel search gets its own stream, seeded from this one
+	 * @param seed the seed of the random generators
+	 */
+	public void setSeed(long seed) {
+		this.seeded = true;
+		this.seed = seed;
+	}
+
+	/**
+	 * drops the seed, searches go back to random streams seeded by the generator itself
+	 */
+	public void clearSeed() {
+		this.seeded = false;
+	}
+
+	/**
+	 * @return true if every search starts from the seed
+	 */
+	public boolean isSeeded() {
+		return this.seeded;
+	}
+
+	/**
+	 * getter for the perfect play table
+	 * @return the table looked up before searching or null
+	 */
+	public PerfectPlayTable getPerfectPlay() {
+		return this.perfectPlay;
+	}
+
+	/**
+	 * setter for the perfect play table, off by default
+	 * with a table, TicTacToe positions are answered from it without any simulation
+	 * @param perfectPlay table loaded with PerfectPlayTable.load, null to always search
+	 */
+	public void setPerfectPlay(PerfectPlayTable perfectPlay) {
+		this.perfectPlay = perfectPlay;
+	}
+
+	/**
+	 * getter for rootStatistics
+	 * @return true if search results carry the statistics of the children of the root
+	 */
+	public boolean isRootStatistics() {
+		return this.rootStatistics;
+	}
+
+	/**
+	 * setter for rootStatistics, off by default so a search doesn't build a layout for every child
+	 * @param rootStatistics true to add the statistics of the children of the root to every SearchResult
+	 */
+	public void setRootStatistics(boolean rootStatistics) {
+		this.rootStatistics = rootStatistics;
+	}
+
+	/**
+	 * getter for the listener
+	 * @return the listener notified around every search or null
+	 */
+	public SearchListener getListener() {
+		return this.listener;
+	}
+
+	/**
+	 * setter for the listener
+	 * @param listener notified around every search, null to remove it
+	 */
+	public void setListener(SearchListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * exploration part of the uct value that only depends on the parent, computed once per selection
+	 * the uct value of a child is then its mean score plus this times invSqrt of its visits
+	 * @param totalVisits parent state's visits
+	 * @return EXPLORATION_FACTOR * sqrt(log(totalVisits)), 0 for parents with at most one visit
+	 */
+	private double exploration(int totalVisits) {
+		if(totalVisits <= 1)
+			return 0;
+		if(totalVisits < UCT_TABLE_SIZE)
+			return EXPLORATION_FACTOR * SQRT_LOG[totalVisits];
+		return EXPLORATION_FACTOR * Math.sqrt(Math.log(totalVisits));
+	}
+
+	/**
+	 * @param stateVisits visits of a child, greater than 0
+	 * @return 1 / sqrt(stateVisits)
+	 */
+	private static double invSqrt(int stateVisits) {
+		if(stateVisits < UCT_TABLE_SIZE)
+			return INV_SQRT[stateVisits];
+		return 1 / Math.sqrt(stateVisits);
+	}
+
+	/**
+	 * Selects the child with the highest uct value, leaving out the children proven to win or lose
+	 * proven draws are still selected so their visits keep up with the moves they are compared with
+	 * a child that was never visited is taken right away, ties go to the first child
+	 * with RAVE the mean score is blended with the amaf mean, beta = sqrt(k / (3n + k)) being the weight of the amaf mean
+	 * @param state State whose children will be compared to find the highest uct value
+	 * @return the child with the highest uct value or null if every child is proven to win or lose
+	 */
+	private State bestStateUCT(State state) {
+		List<State> children = state.getChildArray();
+		double exploration = exploration(state.getVisits());
+		boolean amaf = this.amaf;
+		State best = null;
+		double bestValue = Double.NEGATIVE_INFINITY;
+		for(int i = 0, n = children.size(); i < n; i++) {
+			State c = children.get(i);
+			char proven = c.getProven();
+			if(proven != UNPROVEN && proven != Ilayout.DRAW)
+				continue;
+			int visits = c.getVisits();
+			if(visits <= 0)
+				return c;
+			double mean = (double) c.getWinScore() / visits;
+			if(amaf) {
+				int amafVisits = c.getAmafVisits();
+				if(amafVisits > 0) {
+					double beta = Math.sqrt(this.raveEquivalence / (3.0 * visits + this.raveEquivalence));
+					mean += beta * ((double) c.getAmafScore() / amafVisits - mean);
+				}
+			}
+			double value = mean + exploration * invSqrt(visits);
+			if(best == null || value > bestValue) {
+				best = c;
+				bestValue = value;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * selects the most promising state, starting from the root state
+	 * only goes down through states that have a child for every move and stops at the first proven state
+	 * every selected state is added to the path
+	 * @param rootState the state from which to begin selection
+	 * @return a State in which the game is over
+	 */
+	private State selectPromisingState(State rootState) {
+		State state = rootState;
+		this.path.clear();
+		this.path.add(state);
+		if(this.virtualLoss != 0)
+			state.addVisits(this.virtualLoss);
+		while(state.isFullyExpanded() && state.getChildArray().size() != 0) {
+			State next = bestStateUCT(state);
+			if(next == null)
+				break;
+			state = next;
+			this.path.add(state);
+			if(this.virtualLoss != 0)
+				state.addVisits(this.virtualLoss);
+			if(state.isProven())
+				break;
+		}
+		return state;
+	}
+
+	/**
+	 * expands the given state by a single child, built from one of its untried moves
+	 * the moves are listed the first time the state is expanded, the layouts only when a child is made
+	 * with transpositions on, a successor already in the table is linked instead of created
+	 * @param state the State to expand
+	 * @return the new child or null if the state had no untried moves left
+	 */
+	private State expandState(State state) {
+		int move;
+		synchronized(state) {
+			if(!state.hasUntried()) {
+				int count = legalMoves(state.getLayout());
+				state.setUntriedMoves(this.moveBuffer, count);
+			}
+			move = state.takeUntriedMove(this.random);
+		}
+		if(move < 0)
+			return null;
+		State recycled = this.freeStates.poll();
+		Ilayout childLayout = recycled == null ? childOf(state.getLayout(), move) : childOf(state.getLayout(), move, recycled.getLayout());
+
+		State newState = this.table == null ? null : this.table.get(childLayout);
+		if(newState == null) {
+			if(recycled == null)
+				newState = new State(childLayout);
+			else {
+				newState = recycled;
+				newState.setLayout(childLayout);
+			}
+			newState.setFather(state);
+			newState.setPlayer(state.getOpponent());
+			newState.setMove(move);
+			this.createdNodes++;
+			this.treeSize++;
+			if(this.table != null)
+				this.table.put(newState);
+		}
+		if(this.virtualLoss != 0)
+			state.publishChild(newState);
+		else
+			state.addChild(newState);
+		return newState;
+	}
+
+	/**
+	 * evicts the subtrees with the least visits until the tree holds at most 3/4 of the node budget
+	 * every pass evicts the children with less visits than a threshold that doubles from pass to pass,
+	 * and the children of the proven states, which the selection never goes into again, but the one that proves them
+	 * stops early once only the root and its children are left, since they can't be evicted
+	 * @param root the root of the tree, neither it nor its children are evicted
+	 * @return the tree size at which the next eviction is due: the node budget, or if the tree couldn't shrink
+	 * to the target, its size plus a quarter, so a tree that can't fit isn't walked again on every expansion
+	 */
+	private int evict(State root) {
+		int target = this.nodeBudget - this.nodeBudget / EVICTION_SHARE;
+		for(int threshold = 1; this.treeSize > target; threshold *= 2) {
+			for(State child : root.getChildArray())
+				evictBelow(child, threshold);
+			if(threshold > root.getVisits() || this.treeSize <= 1 + root.getChildArray().size())
+				break;
+		}
+		return Math.max(this.nodeBudget, this.treeSize + Math.max(this.nodeBudget, this.treeSize) / EVICTION_SHARE);
+	}
+
+	/**
+	 * evicts the children of a state with less visits than the threshold, and goes down into the others
+	 * a proven state only keeps the child getChildWithMaxScore picks, the move that proves it,
+	 * so a search starting from the state still has that move to return
+	 * @param state a state of the tree
+	 * @param threshold visits a child needs to stay in the tree
+	 */
+	private void evictBelow(State state, int threshold) {
+		boolean proven = state.isProven();
+		State proof = proven ? state.getChildWithMaxScore() : null;
+		for(State child : state.getChildArray()) {
+			if(proven ? child != proof : child.getVisits() < threshold && !child.isProven()) {
+				if(state.evictChild(child))
+					release(child);
+			}
+			else
+				evictBelow(child, threshold);
+		}
+	}
+
+	/**
+	 * clears an evicted subtree, keeping its states in the free list while it has room
+	 * @param subtree the root of a subtree that was taken out of the tree
+	 */
+	private void release(State subtree) {
+		ArrayDeque<State> stack = new ArrayDeque<>();
+		stack.push(subtree);
+		while(!stack.isEmpty()) {
+			State state = stack.pop();
+			for(State child : state.getChildArray())
+				stack.push(child);
+			state.clear();
+			this.treeSize--;
+			this.evictedNodes++;
+			if(this.freeStates.size() < this.nodeBudget / EVICTION_SHARE)
+				this.freeStates.push(state);
+		}
+	}
+
+	/**
+	 * @param root a state
+	 * @return amount of states in the tree under it, itself included
+	 */
+	private static int countStates(State root) {
+		int count = 0;
+		ArrayDeque<State> stack = new ArrayDeque<>();
+		stack.push(root);
+		while(!stack.isEmpty()) {
+			State state = stack.pop();
+			count++;
+			for(State child : state.getChildArray())
+				stack.push(child);
+		}
+		return count;
+	}
+
+	/**
+	 * @param layout the layout of a state of the tree
+	 * @return a copy of the layout while the node budget is on, since the state may be reused later, the layout itself otherwise
+	 */
+	private Ilayout detached(Ilayout layout) {
+		return this.nodeBudget == 0 ? layout : layout.copy();
+	}
+
+	/**
+	 * lists the legal moves of a layout into moveBuffer, growing it for games with more moves
+	 * @param layout the game config
+	 * @return amount of moves written
+	 */
+	private int legalMoves(Ilayout layout) {
+		if(this.moveBuffer.length < layout.getMaxMoves())
+			this.moveBuffer = new int[layout.getMaxMoves()];
+		return layout.getMoves(this.moveBuffer);
+	}
+
+	/**
+	 * builds the layout reached by playing a move listed by legalMoves
+	 * @param layout the game config, left untouched
+	 * @param move the move to play
+	 * @return a new layout with the move played
+	 */
+	static Ilayout childOf(Ilayout layout, int move) {
+		Ilayout child = layout.copy();
+		child.play(move);
+		return child;
+	}
+
+	/**
+	 * builds the layout reached by playing a move into the layout of a recycled state, when it is a board of the same game and size
+	 * @param layout the game config, left untouched
+	 * @param move the move to play
+	 * @param spare layout of a state taken from the free list
+	 * @return spare with the config of layout and the move played, or a new layout if spare doesn't fit
+	 */
+	private static Ilayout childOf(Ilayout layout, int move, Ilayout spare) {
+		if(!spare.canCopyFrom(layout))
+			return childOf(layout, move);
+		spare.copyFrom(layout);
+		spare.play(move);
+		return spare;
+	}
+
+	/**
+	 * @param layout the game config a playout starts from
+	 * @return the scratch board with the config of layout, replaced by a copy if it belongs to another game or size
+	 */
+	private Ilayout scratchFor(Ilayout layout) {
+		Ilayout t = this.scratch;
+		if(t != null && t.canCopyFrom(layout)) {
+			t.copyFrom(layout);
+			return t;
+		}
+		this.scratch = t = layout.copy();
+		if(this.moveBuffer.length < t.getMaxMoves())
+			this.moveBuffer = new int[t.getMaxMoves()];
+		return t;
+	}
+
+	/**
+	 * propagates the rewards back up the tree to update all state statistics
+	 * also takes back the virtual loss added to the path during selection
+	 * @param path the states from the root to the simulated state, that will be given the rewards
+	 * @param playoutResult simulation result, the winner or Ilayout.DRAW
+	 */
+	private void backPropagation(List<State> path, char playoutResult) {
+		for(int i = path.size() - 1; i >= 0; i--) {
+			State tempState = path.get(i);
+			tempState.addVisits(1 - this.virtualLoss);
+			if(tempState.getPlayer() == playoutResult)
+				tempState.addScore(WIN_SCORE);
+		}
+	}
+
+	/**
+	 * updates the all moves as first statistics of the children of every state of the path
+	 * the path is walked from the simulated state up, so when a state is reached firstPlayedBy holds the player
+	 * that played each move first after it, in the playout or further down the path
+	 * @param path the states from the root to the simulated state
+	 * @param playoutResult simulation result, the winner or Ilayout.DRAW
+	 */
+	private void updateAmaf(List<State> path, char playoutResult) {
+		char[] playedBy = this.firstPlayedBy;
+		int maxMoves = path.get(0).getLayout().getMaxMoves();
+		if(playedBy.length < maxMoves)
+			this.firstPlayedBy = playedBy = new char[maxMoves];
+		else
+			Arrays.fill(playedBy, 0, maxMoves, (char) 0);
+		for(int i = this.playoutLength - 1; i >= 0; i--)
+			playedBy[this.playoutMoves[i]] = this.playoutPlayers[i];
+		for(int i = path.size() - 1; i >= 0; i--) {
+			State state = path.get(i);
+			List<State> children = state.getChildArray();
+			for(int j = 0, m = children.size(); j < m; j++) {
+				State c = children.get(j);
+				int move = c.getMove();
+				if(move >= 0 && playedBy[move] == c.getPlayer())
+					c.addAmaf(c.getPlayer() == playoutResult ? WIN_SCORE : 0);
+			}
+			if(state.getMove() >= 0)
+				playedBy[state.getMove()] = state.getPlayer();
+		}
+	}
+
+	/**
+	 * proves the states of the path from the simulated state up, stopping at the first one that can't be proven
+	 * @param path the states from the root to the simulated state
+	 */
+	private static void propagateProof(List<State> path) {
+		if(!path.get(path.size() - 1).isProven())
+			return;
+		for(int i = path.size() - 2; i >= 0; i--)
+			if(!path.get(i).prove())
+				return;
+	}
+
+	/**
+	 * simulates a playout from a given state with the playout policy, a proven state gives its proven result instead
+	 * @param state the state from which to start the simulation
+	 * @return the player that won the simulation or Ilayout.DRAW if it ended in a draw
+	 */
+	private char simulatePlayout(State state) {
+		this.playoutLength = 0;
+		char proven = state.getProven();
+		if(proven != UNPROVEN)
+			return proven;
+		return playout(scratchFor(state.getLayout()));
+	}
+
+	/**
+	 * plays the moves of the playout policy on a board until the game is over
+	 * the moves are recorded for the amaf update while amaf is on
+	 * @param t the board, changed in place
+	 * @return the player that won the simulation or Ilayout.DRAW if it ended in a draw
+	 */
+	private char playout(Ilayout t) {
+		PlayoutPolicy policy = this.playoutPolicy;
+		boolean record = this.amaf;
+		int availablePositions;
+		while((availablePositions = t.getMoves(this.moveBuffer)) > 0) {
+			int move = policy.chooseMove(t, this.moveBuffer, availablePositions, this.random);
+			if(record)
+				recordMove(move, t.getTurn());
+			t.play(move);
+		}
+		return t.getResult();
+	}
+
+	/**
+	 * appends a move to the moves of the current playout
+	 * @param move the move about to be played
+	 * @param player char representing the player that plays it
+	 */
+	private void recordMove(int move, char player) {
+		if(this.playoutLength == this.playoutMoves.length) {
+			this.playoutMoves = Arrays.copyOf(this.playoutMoves, this.playoutLength * 2);
+			this.playoutPlayers = Arrays.copyOf(this.playoutPlayers, this.playoutLength * 2);
+		}
+		this.playoutMoves[this.playoutLength] = move;
+		this.playoutPlayers[this.playoutLength++] = player;
+	}
+
+	/**
+	 * Selects the child with the highest uct value in the node pool, leaving out the children proven to win or lose
+	 * ties go to the first child, like in bestStateUCT
+	 * @param node index of the node whose children will be compared
+	 * @return index of the child with the highest uct value or NodePool.NONE if every child is proven to win or lose
+	 */
+	private int bestNodeUCT(int node) {
+		double exploration = exploration(this.nodes.getVisits(node));
+		int first = this.nodes.getFirstChild(node);
+		int end = first + this.nodes.getChildCount(node);
+		int best = NodePool.NONE;
+		double bestValue = Double.NEGATIVE_INFINITY;
+		for(int c = first; c < end; c++) {
+			char proven = this.nodes.getProven(c);
+			if(proven != UNPROVEN && proven != Ilayout.DRAW)
+				continue;
+			int visits = this.nodes.getVisits(c);
+			if(visits <= 0)
+				return c;
+			double value = (double) this.nodes.getScore(c) / visits + exploration * invSqrt(visits);
+			if(best == NodePool.NONE || value > bestValue) {
+				best = c;
+				bestValue = value;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * chooses the child of the root in the node pool like State.getChildWithMaxScore:
+	 * a proven win first, then the most visited child that isn't a proven loss
+	 * @return index of the chosen child
+	 */
+	private int bestNodeChild() {
+		int first = this.nodes.getFirstChild(NodePool.ROOT);
+		int end = first + this.nodes.getChildCount(NodePool.ROOT);
+		int best = NodePool.NONE;
+		boolean bestLoses = true;
+		for(int c = first; c < end; c++) {
+			char p = this.nodes.getProven(c);
+			if(p == this.player)
+				return c;
+			boolean loses = p == this.opponent;
+			if(best == NodePool.NONE || (bestLoses && !loses) || (bestLoses == loses && this.nodes.getVisits(c) > this.nodes.getVisits(best))) {
+				best = c;
+				bestLoses = loses;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * tries to prove a node of the pool from its children, like State.prove
+	 * @param node index of the node
+	 * @param nodePlayer char representing the player that moved into the node
+	 * @return true if the node is proven
+	 */
+	private boolean proveNode(int node, char nodePlayer) {
+		NodePool pool = this.nodes;
+		if(pool.getProven(node) != UNPROVEN)
+			return true;
+		char toMove = nodePlayer == this.player ? this.opponent : this.player;
+		int first = pool.getFirstChild(node);
+		int end = first + pool.getChildCount(node);
+		boolean all = end > first;
+		boolean draw = false;
+		for(int c = first; c < end; c++) {
+			char p = pool.getProven(c);
+			if(p == toMove) {
+				pool.setProven(node, toMove);
+				return true;
+			}
+			if(p == UNPROVEN)
+				all = false;
+			else if(p == Ilayout.DRAW)
+				draw = true;
+		}
+		if(!all)
+			return false;
+		pool.setProven(node, draw ? Ilayout.DRAW : nodePlayer);
+		return true;
+	}
+
+	/**
+	 * runs simulations on the node pool, the same four phases as grow but without any State
+	 * the board of each node is rebuilt on the scratch board by replaying the moves from the root,
+	 * and the player of a node alternates with its depth starting from the opponent at the root
+	 * @param rootLayout the game config of the root
+	 * @param player char representing the player that is about to play
+	 * @param simulations max number of simulations to run
+	 * @param deadline System.nanoTime() value at which to stop, or NO_DEADLINE
+	 * @return number of simulations that were run
+	 */
+	private int growPooled(Ilayout rootLayout, char player, int simulations, long deadline) {
+		this.player = player;
+		this.opponent = rootLayout.getOpponent(player);
+		NodePool pool = this.nodes;
+		pool.reset();
+		boolean profiling = this.profiling;
+		long mark = profiling ? System.nanoTime() : 0;
+
+		int i = 0;
+		while(i < simulations){
+			Ilayout t = scratchFor(rootLayout);
+			int node = NodePool.ROOT;
+			char nodePlayer = this.opponent;
+			int depth = 0;
+
+			// Phase 1 - Selection
+			while(pool.getChildCount(node) != 0) {
+				int next = bestNodeUCT(node);
+				if(next == NodePool.NONE)
+					break;
+				node = next;
+				t.play(pool.getMove(node));
+				nodePlayer = nodePlayer == player ? this.opponent : player;
+				depth++;
+				if(pool.getProven(node) != UNPROVEN)
+					break;
+			}
+			if(profiling)
+				mark = lap(mark, SELECTION);
+
+			// Phase 2 - Expansion
+			if(pool.getProven(node) == UNPROVEN && pool.getChildCount(node) == 0 && !t.gameOver()) {
+				int count = t.getMoves(this.moveBuffer);
+				int first = pool.expand(node, this.moveBuffer, count);
+
+				// Phase 3 - Simulation, from a random child
+				node = first + this.random.nextInt(count);
+				t.play(pool.getMove(node));
+				nodePlayer = nodePlayer == player ? this.opponent : player;
+				depth++;
+			}
+			if(depth > this.maxDepth)
+				this.maxDepth = depth;
+			if(profiling)
+				mark = lap(mark, EXPANSION);
+
+			char playoutResult;
+			if(pool.getProven(node) != UNPROVEN)
+				playoutResult = pool.getProven(node);
+			else if(t.gameOver()) {
+				playoutResult = t.getResult();
+				pool.setProven(node, playoutResult);
+			}
+			else
+				playoutResult = playout(t);
+			if(profiling)
+				mark = lap(mark, SIMULATION);
+
+			// Phase 4 - Update
+			int leaf = node;
+			char leafPlayer = nodePlayer;
+			for(int n = node; n != NodePool.NONE; n = pool.getParent(n)) {
+				pool.incrementVisits(n);
+				if(nodePlayer == playoutResult)
+					pool.addScore(n, WIN_SCORE);
+				nodePlayer = nodePlayer == player ? this.opponent : player;
+			}
+			if(pool.getProven(leaf) != UNPROVEN) {
+				char p = leafPlayer;
+				for(int n = pool.getParent(leaf); n != NodePool.NONE; n = pool.getParent(n)) {
+					p = p == player ? this.opponent : player;
+					if(!proveNode(n, p))
+						break;
+				}
+			}
+			if(profiling)
+				mark = lap(mark, BACK_PROPAGATION);
+
+			i++;
+			if(pool.getProven(NodePool.ROOT) != UNPROVEN)
+				break;
+			if(deadline != NO_DEADLINE && i % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() - deadline >= 0)
+				break;
+		}
+		this.createdNodes += pool.size() - 1;
+		return i;
+	}
+
+	/**
+	 * adds the time since the last mark to a phase
+	 * @param since System.nanoTime() value at which the phase started
+	 * @param phase index of the phase in phaseNanos
+	 * @return the current System.nanoTime(), where the next phase starts
+	 */
+	private long lap(long since, int phase) {
+		long now = System.nanoTime();
+		this.phaseNanos[phase] += now - since;
+		return now;
+	}
+
+	/**
+	 * sets the statistics of this instance back to zero before a search
+	 */
+	private void resetStats() {
+		this.createdNodes = 0;
+		this.evictedNodes = 0;
+		this.maxDepth = 0;
+		Arrays.fill(this.phaseNanos, 0);
+	}
+
+	/**
+	 * sums the statistics of the instances that ran the last search
+	 * @param searchers this instance or its workers
+	 * @return the statistics of the whole search
+	 */
+	private static SearchStats statsOf(MCTS... searchers) {
+		int nodes = 0;
+		int evicted = 0;
+		int depth = 0;
+		long[] nanos = new long[4];
+		for(MCTS m : searchers) {
+			nodes += m.createdNodes;
+			evicted += m.evictedNodes;
+			depth = Math.max(depth, m.maxDepth);
+			for(int p = 0; p < nanos.length; p++)
+				nanos[p] += m.phaseNanos[p];
+		}
+		return new SearchStats(nodes, evicted, depth, nanos[SELECTION], nanos[EXPANSION], nanos[SIMULATION], nanos[BACK_PROPAGATION]);
+	}
+
+	/**
+	 * runs a single random playout from a state outside of a search, used by the benchmarks
+	 * @param state the state from which to start the simulation
+	 * @param player char representing the player that is about to play in that state
+	 * @return the player that won the simulation or Ilayout.DRAW if it ended in a draw
+	 */
+	char playout(State state, char player) {
+		this.player = player;
+		this.opponent = state.getLayout().getOpponent(player);
+		this.path.clear();
+		return simulatePlayout(state);
+	}
+
+	/**
+	 * creates the root of a new tree for the given layout
+	 * the states of the old tree are dropped from the transposition table
+	 * @param layout the game config in Ilayout
+	 * @param player char representing the player that is about to play
+	 * @return the root of the tree, belonging to the player that moved last
+	 */
+	private State newRoot(Ilayout layout, char player) {
+		if(this.table != null)
+			this.table.clear();
+		State initialState = new State(layout);
+		initialState.setPlayer(layout.getOpponent(player));
+		return initialState;
+	}
+
+	/**
+	 * runs simulations on a tree, the tree may be shared with other instances in the tree parallel search
+	 * stops early once the deadline is reached, always running at least one simulation
+	 * @param initialState the root of the tree
+	 * @param player char representing the player that is about to play
+	 * @param simulations max number of simulations to run
+	 * @param deadline System.nanoTime() value at which to stop, or NO_DEADLINE
+	 * @return number of simulations that were run
+	 */
+	private int grow(State initialState, char player, int simulations, long deadline) {
+		this.player = player;
+		this.opponent = initialState.getLayout().getOpponent(player);
+		this.amaf = this.rave && this.table == null;
+		boolean bounded = this.nodeBudget > 0 && this.table == null && this.virtualLoss == 0;
+		int evictAt = this.nodeBudget;
+		if(bounded)
+			this.treeSize = countStates(initialState);
+		boolean profiling = this.profiling;
+		long mark = profiling ? System.nanoTime() : 0;
+
+		int i = 0;
+		while(i < simulations){
+			if(bounded && this.treeSize >= evictAt)
+				evictAt = evict(initialState);
+
+			// Phase 1 - Selection
+			State promisingState = selectPromisingState(initialState);
+			if(profiling)
+				mark = lap(mark, SELECTION);
+			
+			// Phase 2 - Expansion
+			State stateToExplore = promisingState;
+			if(!promisingState.isProven()) {
+				State child = expandState(promisingState);
+				if(child != null) {
+					stateToExplore = child;
+					this.path.add(stateToExplore);
+					if(this.virtualLoss != 0)
+						stateToExplore.addVisits(this.virtualLoss);
+				}
+			}
+			if(this.path.size() > this.maxDepth + 1)
+				this.maxDepth = this.path.size() - 1;
+			if(profiling)
+				mark = lap(mark, EXPANSION);
+
+			// Phase 3 - Simulation
+			char playoutResult = simulatePlayout(stateToExplore);
+			if(profiling)
+				mark = lap(mark, SIMULATION);
+
+			// Phase 4 - Update
+			backPropagation(this.path, playoutResult);
+			if(this.amaf)
+				updateAmaf(this.path, playoutResult);
+			propagateProof(this.path);
+			if(profiling)
+				mark = lap(mark, BACK_PROPAGATION);
+
+			i++;
+			if(initialState.isProven())
+				break;
+			if(deadline != NO_DEADLINE && i % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() - deadline >= 0)
+				break;
+		}
+		return i;
+	}
+
+	/**
+	 * grows a new tree from the given layout
+	 * @param layout the game config in Ilayout
+	 * @param player char representing the player that is about to play
+	 * @param simulations max number of simulations to run
+	 * @param deadline System.nanoTime() value at which to stop, or NO_DEADLINE
+	 * @return the root of the tree
+	 */
+	private State search(Ilayout layout, char player, int simulations, long deadline) {
+		State initialState = newRoot(layout, player);
+		grow(initialState, player, simulations, deadline);
+		return initialState;
+	}
+
+	/**
+	 * creates the workers and the pool that runs them on the first parallel search
+	 */
+	private void startWorkers() {
+		if(this.pool != null)
+			return;
+		this.workers = new MCTS[this.threads];
+		for(int i = 0; i < this.threads; i++)
+			this.workers[i] = new MCTS(0);
+		this.pool = Executors.newFixedThreadPool(this.threads, r -> {
+			Thread t = new Thread(r, "mcts-worker");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	/**
+	 * stops the threads of the parallel searches, a later search starts new ones
+	 * has no effect on an instance that never ran a parallel search
+	 */
+	@Override
+	public void close() {
+		if(this.pool == null)
+			return;
+		this.pool.shutdownNow();
+		this.pool = null;
+		this.workers = null;
+	}
+
+	/**
+	 * gives a worker a random stream of the algorithm of this instance
+	 * with a seed the stream is seeded from the stream of this instance, so it is the same on every run
+	 * @param worker the worker about to search
+	 */
+	private void useRandom(MCTS worker) {
+		if(this.seeded)
+			worker.random = this.randomFactory.create(this.random.nextLong());
+		else if(worker.randomFactory != this.randomFactory)
+			worker.random = this.randomFactory.create();
+		worker.randomFactory = this.randomFactory;
+	}
+
+	/**
+	 * splits the simulations of a search evenly between the threads
+	 * @param simulations max number of simulations of the whole search
+	 * @param i index of the worker
+	 * @return amount of simulations the worker i runs
+	 */
+	private int shareOf(int simulations, int i) {
+		return simulations / this.threads + (i < simulations % this.threads ? 1 : 0);
+	}
+
+	/**
+	 * waits for a task of the pool, turning its failures into unchecked exceptions
+	 * @param result the future of the task
+	 * @return the value computed by the task
+	 */
+	private static <T> T await(Future<T> result) {
+		try {
+			return result.get();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("search was interrupted", e);
+		} catch(ExecutionException e) {
+			throw new IllegalStateException("search failed", e.getCause());
+		}
+	}
+
+	/**
+	 * runs one search per worker on the pool and merges the children of every root into the first one
+	 * the children of the roots match by layout, since each tree expands its moves in its own order
+	 * the visits of the merged root add up to the simulations run by all the workers
+	 * @param layout the game config in Ilayout
+	 * @param player char representing the player that is about to play
+	 * @param simulations max number of simulations of the whole search
+	 * @param deadline System.nanoTime() value at which to stop, or NO_DEADLINE
+	 * @return the root of the first tree holding the merged statistics
+	 */
+	private State searchRootParallel(Ilayout layout, char player, int simulations, long deadline) {
+		startWorkers();
+		List<Future<State>> results = new ArrayList<>(this.threads);
+		for(int i = 0; i < this.threads; i++) {
+			MCTS worker = this.workers[i];
+			worker.virtualLoss = 0;
+			worker.setNodeBudget(this.nodeBudget == 0 ? 0 : Math.max(1, this.nodeBudget / this.threads));
+			worker.EXPLORATION_FACTOR = this.EXPLORATION_FACTOR;
+			worker.rave = this.rave;
+			worker.playoutPolicy = this.playoutPolicy;
+			worker.raveEquivalence = this.raveEquivalence;
+			useRandom(worker);
+			worker.profiling = this.profiling;
+			worker.resetStats();
+			if(this.table == null)
+				worker.table = null;
+			else if(worker.table == null || worker.table == this.table || worker.table.capacity() != this.table.capacity())
+				worker.table = new TranspositionTable(this.table.capacity());
+			int share = shareOf(simulations, i);
+			results.add(this.pool.submit(() -> worker.search(layout, player, share, deadline)));
+		}
+
+		State root = await(results.get(0));
+		for(int i = 1; i < results.size(); i++) {
+			State other = await(results.get(i));
+			root.addVisits(other.getVisits());
+			for(State child : other.getChildArray()) {
+				State same = null;
+				for(State mine : root.getChildArray()) {
+					if(mine.getLayout().equals(child.getLayout())) {
+						same = mine;
+						break;
+					}
+				}
+				if(same != null)
+					same.merge(child);
+				else {
+					child.setFather(root);
+					root.addChild(child);
+				}
+			}
+		}
+		return root;
+	}
+
+	/**
+	 * runs every worker on the same tree, using virtual loss to keep them apart
+	 * @param root the root of the shared tree
+	 * @param player char representing the player that is about to play
+	 * @param simulations max number of simulations of the whole search
+	 * @param deadline System.nanoTime() value at which to stop, or NO_DEADLINE
+	 * @return number of simulations run by all the workers
+	 */
+	private int searchTreeParallel(State root, char player, int simulations, long deadline) {
+		startWorkers();
+		List<Future<Integer>> results = new ArrayList<>(this.threads);
+		for(int i = 0; i < this.threads; i++) {
+			MCTS worker = this.workers[i];
+			worker.virtualLoss = VIRTUAL_LOSS;
+			worker.EXPLORATION_FACTOR = this.EXPLORATION_FACTOR;
+			worker.rave = this.rave;
+			worker.playoutPolicy = this.playoutPolicy;
+			worker.raveEquivalence = this.raveEquivalence;
+			useRandom(worker);
+			worker.profiling = this.profiling;
+			worker.resetStats();
+			worker.table = this.table;
+			int share = shareOf(simulations, i);
+			results.add(this.pool.submit(() -> worker.grow(root, player, share, deadline)));
+		}
+		int total = 0;
+		for(Future<Integer> result : results)
+			total += await(result);
+		return total;
+	}
+
+	/**
+	 * looks for the given layout in the tree kept from the last search
+	 * the root of that tree is the move that was returned, so the layout is either that state
+	 * (the same instance plays both sides) or one of its children (the opponent already replied)
+	 * a tree of another game or size is never matched, the instance may have searched it before
+	 * @param layout the game config in Ilayout
+	 * @param player char representing the player that is about to play
+	 * @return the matching state detached from the rest of the tree, or null if there is none
+	 * or it is a proven state without children, which a new search has to prove again to find the move
+	 */
+	private State reusableRoot(Ilayout layout, char player) {
+		if(this.tree == null || !this.tree.getRoot().getLayout().canCopyFrom(layout))
+			return null;
+		State found = null;
+		State root = this.tree.getRoot();
+		if(root.getPlayer() != player && root.getLayout().equals(layout))
+			found = root;
+		else {
+			for(State child : root.getChildArray()) {
+				if(child.getPlayer() != player && child.getLayout().equals(layout)) {
+					found = child;
+					break;
+				}
+			}
+		}
+		if(found == null || (found.isProven() && found.getChildArray().isEmpty()))
+			return null;
+		found.setFather(null);
+		return found;
+	}
+
+	/**
+	 * with transpositions a state may have been created from another parent, so its layout can carry
+	 * the move that was played from there (e.g. lastPlayed); this finds the same layout as reached from the root
+	 * @param root the game config that was searched
+	 * @param chosen the game config of the chosen child
+	 * @return the successor of root equal to chosen
+	 */
+	private static Ilayout moveFrom(Ilayout root, Ilayout chosen) {
+		for(Ilayout child : root.children())
+			if(child.equals(chosen))
+				return child;
+		return chosen;
+	}
+
+	/**
+	 * finds the best move from a given layout and player
+	 * looks the move up in the perfect play table when there is one and it has the position
+	 * otherwise uses the root or tree parallel search when this instance has more than one thread
+	 * and the node pool for a single thread when it is on
+	 * with reuseTree the search continues from the matching state of the last tree, if there is one
+	 * @param layout the game config in Ilayout
+	 * @param player char representing the player that is about to play
+	 * @param simulations max number of simulations to run
+	 * @param deadline System.nanoTime() value at which to stop, or NO_DEADLINE
+	 * @return the move along with the simulations that were run
+	 * @throws IllegalArgumentException if the game is already over
+	 */
+	private SearchResult run(Ilayout layout, char player, int simulations, long deadline) throws IllegalArgumentException {
+		if(layout.gameOver())
+			throw new IllegalArgumentException("the game is already over:\n"+layout);
+		if(this.listener != null)
+			this.listener.searchStarted(layout, player);
+		long start = System.nanoTime();
+		resetStats();
+		if(this.seeded)
+			this.random = this.randomFactory.create(this.seed);
+		if(this.perfectPlay != null && layout instanceof TicTacToe && ((TicTacToe) layout).getTurn() == player) {
+			int cell = this.perfectPlay.bestMove((TicTacToe) layout);
+			if(cell >= 0)
+				return finish(layout, player, childOf(layout, cell), 0, start, Collections.emptyList());
+		}
+		if(this.nodes != null && !this.rave && this.threads == 1) {
+			int done = growPooled(layout, player, simulations, deadline);
+			Ilayout move = childOf(layout, this.nodes.getMove(bestNodeChild()));
+			return finish(layout, player, move, done, start, this.rootStatistics ? nodeChildStats(layout) : Collections.emptyList());
+		}
+		State initialState;
+		int done;
+		if(this.threads > 1 && !this.treeParallel) {
+			initialState = searchRootParallel(layout, player, simulations, deadline);
+			done = initialState.getVisits();
+		}
+		else {
+			initialState = this.reuseTree ? reusableRoot(layout, player) : null;
+			if(initialState == null)
+				initialState = newRoot(layout, player);
+			if(this.threads == 1)
+				done = grow(initialState, player, simulations, deadline);
+			else
+				done = searchTreeParallel(initialState, player, simulations, deadline);
+		}
+		Tree tree = new Tree(initialState);
+
+		State winnerState = initialState.getChildWithMaxScore();
+		if(winnerState == null)		// no simulation was run, any move will do
+			winnerState = expandState(initialState);
+		tree.setRoot(winnerState);
+		if(this.reuseTree) {
+			winnerState.setFather(null);
+			this.tree = tree;
+		}
+		Ilayout move = this.table == null ? detached(winnerState.getLayout()) : moveFrom(initialState.getLayout(), winnerState.getLayout());
+		return finish(layout, player, move, done, start, this.rootStatistics ? childStats(initialState) : Collections.emptyList());
+	}
+
+	/**
+	 * collects the statistics of the children of a root
+	 * @param root the root of the tree that was searched
+	 * @return the move, visits and win score of every child
+	 */
+	private List<MoveStats> childStats(State root) {
+		List<State> children = root.getChildArray();
+		List<MoveStats> result = new ArrayList<>(children.size());
+		for(State child : children) {
+			Ilayout move = this.table == null ? detached(child.getLayout()) : moveFrom(root.getLayout(), child.getLayout());
+			result.add(new MoveStats(move, child.getVisits(), child.getWinScore()));
+		}
+		return result;
+	}
+
+	/**
+	 * collects the statistics of the children of the root in the node pool
+	 * @param root the game config of the root
+	 * @return the move, visits and win score of every child
+	 */
+	private List<MoveStats> nodeChildStats(Ilayout root) {
+		int first = this.nodes.getFirstChild(NodePool.ROOT);
+		int count = this.nodes.getChildCount(NodePool.ROOT);
+		List<MoveStats> result = new ArrayList<>(count);
+		for(int c = first; c < first + count; c++)
+			result.add(new MoveStats(childOf(root, this.nodes.getMove(c)), this.nodes.getVisits(c), this.nodes.getScore(c)));
+		return result;
+	}
+
+	/**
+	 * builds the result of a search, adds it to the MCTSMetrics and notifies the listener
+	 * @param layout the game config that was searched
+	 * @param player char representing the player that is about to play
+	 * @param move the game config after the chosen move
+	 * @param done number of simulations that were run
+	 * @param start System.nanoTime() value at which the search started
+	 * @param children statistics of the children of the root
+	 * @return the result of the search
+	 */
+	private SearchResult finish(Ilayout layout, char player, Ilayout move, int done, long start, List<MoveStats> children) {
+		SearchStats stats = this.threads > 1 && this.workers != null ? statsOf(this.workers) : statsOf(this);
+		SearchResult result = new SearchResult(move, done, Duration.ofNanos(System.nanoTime() - start), stats, children);
+		MCTSMetrics.getInstance().record(result);
+		if(this.listener != null)
+			this.listener.searchFinished(layout, player, result);
+		return result;
+	}
+
+	/**
+	 * finds the best move from a given layout and player running the simulations of this instance
+	 * @param layout the game config in Ilayout
+	 * @param player char representing the player that is about to play
+	 * @return a Ilayout that contains the move
+	 * @throws IllegalArgumentException if the game is already over
+	 */
+	public Ilayout findNextMove(Ilayout layout, char player) throws IllegalArgumentException {
+		return run(layout, player, this.getSimulations(), NO_DEADLINE).getMove();
+	}
+
+	/**
+	 * finds the best move from a given layout and player, searching until the time is up
+	 * the clock is read every few simulations so the search may overrun the budget by a few of them
+	 * @param layout the game config in Ilayout
+	 * @param player char representing the player that is about to play
+	 * @param budget time the search may take
+	 * @return the best move found in time along with the simulations that were run
+	 * @throws IllegalArgumentException if the game is already over
+	 */
+	public SearchResult findNextMove(Ilayout layout, char player, Duration budget) throws IllegalArgumentException {
+		return findNextMove(layout, player, budget, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * finds the best move from a given layout and player, searching until the deadline
+	 * @param layout the game config in Ilayout
+	 * @param player char representing the player that is about to play
+	 * @param deadline instant at which the search stops
+	 * @return the best move found in time along with the simulations that were run
+	 * @throws IllegalArgumentException if the game is already over
+	 */
+	public SearchResult findNextMove(Ilayout layout, char player, Instant deadline) throws IllegalArgumentException {
+		return findNextMove(layout, player, Duration.between(Instant.now(), deadline), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * finds the best move from a given layout and player, stopping at whichever limit comes first
+	 * @param layout the game config in Ilayout
+	 * @param player char representing the player that is about to play
+	 * @param budget time the search may take
+	 * @param simulations max number of simulations to run
+	 * @return the best move found along with the simulations that were run
+	 * @throws IllegalArgumentException if the game is already over
+	 */
+	public SearchResult findNextMove(Ilayout layout, char player, Duration budget, int simulations) throws IllegalArgumentException {
+		return run(layout, player, simulations, deadlineAfter(budget));
+	}
+
+	/**
+	 * finds the best move from a given layout and player running the given simulations, without a time limit
+	 * @param layout the game config in Ilayout
+	 * @param player char representing the player that is about to play
+	 * @param simulations max number of simulations to run
+	 * @return the best move found along with the simulations that were run
+	 * @throws IllegalArgumentException if the game is already over
+	 */
+	public SearchResult findNextMove(Ilayout layout, char player, int simulations) throws IllegalArgumentException {
+		return run(layout, player, simulations, NO_DEADLINE);
+	}
+
+	/**
+	 * turns a time budget into a deadline
+	 * below UNLIMITED the deadline may still wrap around, which the clock checks allow for by comparing differences
+	 * @param budget time the search may take
+	 * @return the System.nanoTime() value at which to stop, or NO_DEADLINE for budgets of UNLIMITED or more
+	 */
+	private static long deadlineAfter(Duration budget) {
+		if(budget.compareTo(UNLIMITED) >= 0)
+			return NO_DEADLINE;
+		return System.nanoTime() + budget.toNanos();
+	}
+}
\ No newline at end of file
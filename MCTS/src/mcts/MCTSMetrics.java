@@ -0,0 +1,153 @@
+package mcts;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Counters summed over every search of every MCTS instance in the JVM
+ * they are updated once per search, never per simulation, so they are always on
+ * register() exposes them through JMX under the name mcts:type=MCTSMetrics
+ */
+public class MCTSMetrics implements MCTSMetricsMBean {
+
+	/**
+	 * name of the MBean on the platform MBean server
+	 */
+	public static final String OBJECT_NAME = "mcts:type=MCTSMetrics";
+
+	/**
+	 * the instance every MCTS reports to
+	 */
+	private static final MCTSMetrics INSTANCE = new MCTSMetrics();
+
+	private final LongAdder searches = new LongAdder();
+	private final LongAdder simulations = new LongAdder();
+	private final LongAdder nodes = new LongAdder();
+	private final LongAdder evictedNodes = new LongAdder();
+	private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+	private final LongAdder searchNanos = new LongAdder();
+	private final LongAdder selectionNanos = new LongAdder();
+	private final LongAdder expansionNanos = new LongAdder();
+	private final LongAdder simulationNanos = new LongAdder();
+	private final LongAdder backPropagationNanos = new LongAdder();
+
+	private MCTSMetrics() {
+	}
+
+	/**
+	 * getter for the shared instance
+	 * @return the counters every MCTS reports to
+	 */
+	public static MCTSMetrics getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * registers the shared instance on the platform MBean server, does nothing if it is already there
+	 * @return the shared instance
+	 */
+	public static synchronized MCTSMetrics register() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			if(!server.isRegistered(name))
+				server.registerMBean(INSTANCE, name);
+		} catch(JMException e) {
+			throw new IllegalStateException("could not register " + OBJECT_NAME, e);
+		}
+		return INSTANCE;
+	}
+
+	/**
+	 * adds a finished search to the counters
+	 * @param result the result of the search
+	 */
+	void record(SearchResult result) {
+		SearchStats stats = result.getStats();
+		this.searches.increment();
+		this.simulations.add(result.getSimulations());
+		this.searchNanos.add(result.getElapsed().toNanos());
+		this.nodes.add(stats.getNodes());
+		this.evictedNodes.add(stats.getEvictedNodes());
+		this.maxDepth.accumulate(stats.getMaxDepth());
+		this.selectionNanos.add(stats.getSelectionTime().toNanos());
+		this.expansionNanos.add(stats.getExpansionTime().toNanos());
+		this.simulationNanos.add(stats.getSimulationTime().toNanos());
+		this.backPropagationNanos.add(stats.getBackPropagationTime().toNanos());
+	}
+
+	@Override
+	public long getSearches() {
+		return searches.sum();
+	}
+
+	@Override
+	public long getSimulations() {
+		return simulations.sum();
+	}
+
+	@Override
+	public long getNodes() {
+		return nodes.sum();
+	}
+
+	@Override
+	public long getEvictedNodes() {
+		return evictedNodes.sum();
+	}
+
+	@Override
+	public int getMaxDepth() {
+		return (int) maxDepth.get();
+	}
+
+	@Override
+	public long getSearchTimeMillis() {
+		return searchNanos.sum() / 1000000;
+	}
+
+	@Override
+	public double getSimulationsPerSecond() {
+		long nanos = searchNanos.sum();
+		return nanos == 0 ? 0 : simulations.sum() * 1e9 / nanos;
+	}
+
+	@Override
+	public long getSelectionTimeMillis() {
+		return selectionNanos.sum() / 1000000;
+	}
+
+	@Override
+	public long getExpansionTimeMillis() {
+		return expansionNanos.sum() / 1000000;
+	}
+
+	@Override
+	public long getSimulationTimeMillis() {
+		return simulationNanos.sum() / 1000000;
+	}
+
+	@Override
+	public long getBackPropagationTimeMillis() {
+		return backPropagationNanos.sum() / 1000000;
+	}
+
+	@Override
+	public void reset() {
+		searches.reset();
+		simulations.reset();
+		nodes.reset();
+		evictedNodes.reset();
+		maxDepth.reset();
+		searchNanos.reset();
+		selectionNanos.reset();
+		expansionNanos.reset();
+		simulationNanos.reset();
+		backPropagationNanos.reset();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package mcts;
+
+/**
+ * JMX view of MCTSMetrics
+ */
+public interface MCTSMetricsMBean {
+
+	/**
+	 * @return amount of searches finished
+	 */
+	long getSearches();
+
+	/**
+	 * @return amount of simulations run by all the searches
+	 */
+	long getSimulations();
+
+	/**
+	 * @return amount of nodes added to the trees by all the searches
+	 */
+	long getNodes();
+
+	/**
+	 * @return amount of nodes evicted from the trees by all the searches to stay within their node budget
+	 */
+	long getEvictedNodes();
+
+	/**
+	 * @return deepest state reached by any search
+	 */
+	int getMaxDepth();
+
+	/**
+	 * @return wall clock time spent in searches, in ms
+	 */
+	long getSearchTimeMillis();
+
+	/**
+	 * @return simulations per second over all the searches
+	 */
+	double getSimulationsPerSecond();
+
+	/**
+	 * @return time spent in selection by profiled searches, in ms
+	 */
+	long getSelectionTimeMillis();
+
+	/**
+	 * @return time spent in expansion by profiled searches, in ms
+	 */
+	long getExpansionTimeMillis();
+
+	/**
+	 * @return time spent in the playouts of profiled searches, in ms
+	 */
+	long getSimulationTimeMillis();
+
+	/**
+	 * @return time spent in backpropagation by profiled searches, in ms
+	 */
+	long getBackPropagationTimeMillis();
+
+	/**
+	 * sets every counter back to zero
+	 */
+	void reset();
+}
\ No newline at end of file
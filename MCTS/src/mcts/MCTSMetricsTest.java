@@ -0,0 +1,117 @@
+package mcts;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MCTSMetricsTest {
+
+	@Test
+	public void testListener(){
+		List<String> calls = new ArrayList<>();
+		SearchResult[] notified = new SearchResult[1];
+		MCTS m = new MCTS(500);
+		m.setListener(new SearchListener() {
+			@Override
+			public void searchStarted(Ilayout layout, char player) {
+				calls.add("started "+player+" "+layout.getHash());
+			}
+
+			@Override
+			public void searchFinished(Ilayout layout, char player, SearchResult result) {
+				calls.add("finished "+player+" "+layout.getHash());
+				notified[0] = result;
+			}
+		});
+		TicTacToe t = new TicTacToe("X--\n-O-\n---");
+		SearchResult result = m.findNextMove(t, 'X', 500);
+		assertEquals(List.of("started X "+t.getHash(), "finished X "+t.getHash()), calls);
+		assertSame(result, notified[0]);
+		m.setListener(null);
+		m.findNextMove(t, 'X', 500);
+		assertEquals(2, calls.size());
+	}
+
+	@Test
+	public void testCounters(){
+		MCTSMetrics metrics = MCTSMetrics.getInstance();
+		long searches = metrics.getSearches();
+		long simulations = metrics.getSimulations();
+		long nodes = metrics.getNodes();
+		SearchResult result = new MCTS(800).findNextMove(new MNKGame(4, 4, 3), 'X', 800);
+		assertEquals(searches + 1, metrics.getSearches());
+		assertEquals(simulations + 800, metrics.getSimulations());
+		assertEquals(nodes + result.getStats().getNodes(), metrics.getNodes());
+		assertTrue(metrics.getMaxDepth() >= result.getStats().getMaxDepth());
+		assertTrue(metrics.getSimulationsPerSecond() > 0);
+	}
+
+	@Test
+	public void testRegister() throws Exception {
+		MCTSMetrics first = MCTSMetrics.register();
+		MCTSMetrics second = MCTSMetrics.register();		// already there, nothing happens
+		assertSame(MCTSMetrics.getInstance(), first);
+		assertSame(first, second);
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(MCTSMetrics.OBJECT_NAME);
+		assertTrue(server.isRegistered(name));
+		assertEquals(first.getSearches(), server.getAttribute(name, "Searches"));
+	}
+
+	/**
+	 * @return depth of the deepest state under state, state being at depth 0
+	 */
+	private static int depth(MCTS.State state) {
+		int deepest = 0;
+		for(MCTS.State child : state.getChildArray())
+			deepest = Math.max(deepest, 1 + depth(child));
+		return deepest;
+	}
+
+	/**
+	 * @return amount of states under state, itself included
+	 */
+	private static int size(MCTS.State state) {
+		int count = 1;
+		for(MCTS.State child : state.getChildArray())
+			count += size(child);
+		return count;
+	}
+
+	@Test
+	public void testSearchStats(){
+		MCTS.State root = new MCTS.State(new TicTacToe());
+		root.setPlayer('O');
+		MCTS m = new MCTS(1000);
+		m.setReuseTree(true);
+		m.setTree(new Tree(root));
+		SearchStats stats = m.findNextMove(root.getLayout(), 'X', 1000).getStats();
+		assertEquals(size(root) - 1, stats.getNodes());		// every state but the root was added by the search
+		assertEquals(depth(root), stats.getMaxDepth());
+		assertEquals(0, stats.getEvictedNodes());
+		assertEquals(Duration.ZERO, stats.getSimulationTime());		// not profiling
+
+		m.setProfiling(true);
+		m.setReuseTree(false);
+		stats = m.findNextMove(new TicTacToe(), 'X', 1000).getStats();
+		assertTrue(stats.getNodes() > 0);
+		assertTrue(stats.getSimulationTime().toNanos() > 0);
+		assertTrue(stats.getSelectionTime().toNanos() > 0);
+	}
+
+	@Test
+	public void testNodePoolStats(){
+		MCTS m = new MCTS(1000);
+		m.setNodePool(true);
+		SearchStats stats = m.findNextMove(new MNKGame(4, 4, 3), 'X', 1000).getStats();
+		assertTrue(stats.getNodes() >= 16);		// the first simulation expands the root into all of its moves
+		assertTrue(stats.getMaxDepth() >= 2);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,478 @@
+package mcts;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MCTSTest {
+
+	private static int childVisits(SearchResult result) {
+		int sum = 0;
+		for(MoveStats child : result.getChildren())
+			sum += child.getVisits();
+		return sum;
+	}
+
+	/**
+	 * checks the visits of every state under root against its children: a simulation through a state either goes on
+	 * to one of its children or ends there, as the one that created it always does, so no state has less visits than
+	 * its children add up to; a virtual loss left behind by the tree parallel search breaks that on the father
+	 * @param isRoot true for the root, which wasn't created by a simulation
+	 */
+	private static void assertVisitsAddUp(MCTS.State state, boolean isRoot) {
+		int sum = 0;
+		for(MCTS.State child : state.getChildArray()) {
+			assertVisitsAddUp(child, false);
+			sum += child.getVisits();
+		}
+		assertTrue(state.getWinScore() <= 10 * state.getVisits());
+		assertTrue(state.toString(), state.getVisits() >= (isRoot ? sum : sum + 1));
+	}
+
+	/**
+	 * @return a tree whose root is the given layout, so a search with reuseTree grows it in place
+	 */
+	private static Tree treeOf(Ilayout layout) {
+		MCTS.State root = new MCTS.State(layout);
+		root.setPlayer(layout.getOpponent(layout.getTurn()));
+		return new Tree(root);
+	}
+
+	@Test
+	public void testRootParallelMergesVisits(){
+		try(MCTS m = new MCTS(1000, 4)) {
+			m.setRootStatistics(true);
+			SearchResult result = m.findNextMove(new TicTacToe(), 'X', 1000);
+			assertEquals(1000, result.getSimulations());
+			assertEquals(TicTacToe.SIZE, result.getChildren().size());		// the children of the four roots merged by layout
+			assertEquals(1000, childVisits(result));
+		}
+	}
+
+	@Test
+	public void testRootParallelFindsWin(){
+		try(MCTS m = new MCTS(2000, 4)) {
+			TicTacToe t = new TicTacToe("XX-\nOO-\n---");
+			assertEquals(2, ((TicTacToe) m.findNextMove(t, 'X')).getLastPlayed());
+		}
+	}
+
+	@Test
+	public void testSearchAfterClose(){
+		MCTS m = new MCTS(400, 2);
+		m.findNextMove(new TicTacToe(), 'X');
+		m.close();
+		m.close();
+		TicTacToe t = new TicTacToe("OO-\nXX-\nX--");
+		assertEquals(2, ((TicTacToe) m.findNextMove(t, 'O')).getLastPlayed());
+		m.close();
+	}
+
+	@Test
+	public void testTreeParallelVisits(){
+		try(MCTS m = new MCTS(4000, 4)) {
+			m.setTreeParallel(true);
+			m.setReuseTree(true);
+			Tree tree = treeOf(new TicTacToe());
+			m.setTree(tree);
+			MCTS.State root = tree.getRoot();
+			SearchResult result = m.findNextMove(root.getLayout(), 'X', 4000);
+			assertEquals(result.getSimulations(), root.getVisits());
+			assertVisitsAddUp(root, true);
+		}
+	}
+
+	@Test
+	public void testTreeParallelFindsWin(){
+		try(MCTS m = new MCTS(2000, 4)) {
+			m.setTreeParallel(true);
+			TicTacToe t = new TicTacToe("X--\n-O-\nO-X");		// 2 blocks the diagonal and forks the top row and the right column
+			assertEquals(2, ((TicTacToe) m.findNextMove(t, 'X')).getLastPlayed());
+		}
+	}
+
+	@Test
+	public void testReuseTree(){
+		MCTS m = new MCTS(1000);
+		m.setReuseTree(true);
+		m.setSeed(5);
+		Ilayout move = m.findNextMove(new TicTacToe(), 'X');
+		MCTS.State kept = m.getTree().getRoot();
+		assertEquals(move, kept.getLayout());
+		assertNull(kept.getFather());
+
+		// O replies with its most visited move, whose state is a grandchild of the first root
+		MCTS.State reply = kept.getChildArray().get(0);
+		for(MCTS.State child : kept.getChildArray())
+			if(child.getVisits() > reply.getVisits())
+				reply = child;
+		int before = reply.getVisits();
+		assertTrue(before > 0);
+		Ilayout position = MCTS.childOf(move, reply.getMove());
+
+		SearchResult result = m.findNextMove(position, 'X', 1000);
+		assertNull(reply.getFather());		// detached from the old root, it is the root of the second search
+		assertEquals(before + result.getSimulations(), reply.getVisits());
+		assertTrue(reply.getChildArray().contains(m.getTree().getRoot()));
+	}
+
+	@Test
+	public void testReuseTreeAcrossGames(){
+		MCTS m = new MCTS(300);
+		m.setReuseTree(true);
+		m.findNextMove(new TicTacToe(), 'X');
+		Ilayout move = m.findNextMove(new ConnectFour(), 'X');		// the kept tree is another game, a new one is grown
+		assertTrue(new ConnectFour().children().contains(move));
+		move = m.findNextMove(new MNKGame(3, 3, 3), 'X');
+		assertTrue(new MNKGame(3, 3, 3).children().contains(move));
+	}
+
+	/**
+	 * walks the states under state, recording the first state found for every layout and the fathers it was reached from
+	 */
+	private static void collect(MCTS.State state, Map<Ilayout, MCTS.State> byLayout, Map<MCTS.State, Set<MCTS.State>> parents) {
+		for(MCTS.State child : state.getChildArray()) {
+			MCTS.State same = byLayout.putIfAbsent(child.getLayout(), child);
+			if(same != null)
+				assertSame(same, child);		// one State per position
+			Set<MCTS.State> from = parents.computeIfAbsent(child, c -> Collections.newSetFromMap(new IdentityHashMap<>()));
+			if(from.add(state) && from.size() == 1)
+				collect(child, byLayout, parents);
+		}
+	}
+
+	@Test
+	public void testTranspositions(){
+		MCTS m = new MCTS(2000);
+		m.setTranspositionTableSize(1 << 18);
+		m.setReuseTree(true);
+		m.setSeed(3);
+		Tree tree = treeOf(new TicTacToe());
+		m.setTree(tree);
+		m.findNextMove(new TicTacToe(), 'X', 2000);
+
+		Map<Ilayout, MCTS.State> byLayout = new HashMap<>();
+		Map<MCTS.State, Set<MCTS.State>> parents = new IdentityHashMap<>();
+		collect(tree.getRoot(), byLayout, parents);
+		int shared = 0;
+		for(Set<MCTS.State> from : parents.values())
+			if(from.size() > 1)
+				shared++;
+		assertTrue(shared > 0);
+
+		// X on 0 then 8 and X on 8 then 0, with O on 4 in between, reach the same State
+		MCTS.State viaA = walk(tree.getRoot(), 0, 4, 8);
+		MCTS.State viaB = walk(tree.getRoot(), 8, 4, 0);
+		assertNotNull(viaA);
+		assertSame(viaA, viaB);
+	}
+
+	/**
+	 * @return the state reached from root by following the children of the given moves, or null if one wasn't expanded
+	 */
+	private static MCTS.State walk(MCTS.State root, int... moves) {
+		MCTS.State state = root;
+		for(int move : moves) {
+			Ilayout target = MCTS.childOf(state.getLayout(), move);
+			MCTS.State next = null;
+			for(MCTS.State child : state.getChildArray())
+				if(child.getLayout().equals(target))
+					next = child;
+			if(next == null)
+				return null;
+			state = next;
+		}
+		return state;
+	}
+
+	@Test
+	public void testSimulationCount(){
+		MCTS m = new MCTS(1750);
+		SearchResult result = m.findNextMove(new TicTacToe(), 'X', 300);
+		assertEquals(300, result.getSimulations());
+		assertEquals('O', result.getMove().getTurn());
+		result = m.findNextMove(new TicTacToe(), 'X', 0);		// no simulation, a move is still returned
+		assertTrue(new TicTacToe().children().contains(result.getMove()));
+	}
+
+	@Test
+	public void testUnlimitedBudget(){
+		MCTS m = new MCTS(1750);
+		assertEquals(300, m.findNextMove(new TicTacToe(), 'X', Duration.ofSeconds(Long.MAX_VALUE), 300).getSimulations());
+		assertEquals(300, m.findNextMove(new TicTacToe(), 'X', Duration.ofNanos(Long.MAX_VALUE - 1), 300).getSimulations());
+	}
+
+	@Test
+	public void testSolverProvesMateInOne(){
+		MCTS m = new MCTS(1750);
+		m.setReuseTree(true);
+		SearchResult result = m.findNextMove(new TicTacToe("XX-\nOO-\n---"), 'X', 1750);
+		assertEquals(2, ((TicTacToe) result.getMove()).getLastPlayed());
+		assertEquals('X', m.getTree().getRoot().getProven());
+		assertTrue(result.getSimulations() < 1750);		// stopped once the root was proven
+	}
+
+	@Test
+	public void testSolverLostRoot(){
+		MCTS m = new MCTS(1750);
+		m.setRootStatistics(true);
+		TicTacToe t = new TicTacToe("XX-\nXO-\n-O-");		// X threatens 2 and 6, O can only block one
+		SearchResult result = m.findNextMove(t, 'O', 1750);
+		assertTrue(result.getSimulations() < 1750);
+		assertTrue(t.children().contains(result.getMove()));		// every move loses, one is still returned
+		assertEquals(4, result.getChildren().size());
+	}
+
+	@Test
+	public void testChildWithMaxScoreSkipsLosses(){
+		TicTacToe t = new TicTacToe("XX-\nOO-\n---");
+		MCTS.State root = new MCTS.State(t);
+		root.setPlayer('O');		// X is to move
+		MCTS.State lost = new MCTS.State(MCTS.childOf(t, 8));
+		lost.setFather(root);
+		lost.setPlayer('X');
+		lost.addVisits(100);
+		lost.setProven('O');
+		MCTS.State open = new MCTS.State(MCTS.childOf(t, 6));
+		open.setFather(root);
+		open.setPlayer('X');
+		open.addVisits(10);
+		root.addChild(lost);
+		root.addChild(open);
+		assertSame(open, root.getChildWithMaxScore());		// the most visited child loses
+		open.setProven('O');
+		assertSame(lost, root.getChildWithMaxScore());		// every child loses, the most visited one is taken
+		MCTS.State won = new MCTS.State(MCTS.childOf(t, 2));
+		won.setFather(root);
+		won.setPlayer('X');
+		won.addVisits(1);
+		root.addChild(won);
+		assertEquals('X', won.getProven());		// terminal, proven by its own result
+		assertSame(won, root.getChildWithMaxScore());
+		assertTrue(root.prove());
+		assertEquals('X', root.getProven());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRejectsGameOver(){
+		new MCTS(100).findNextMove(new TicTacToe("XXX\nOO-\n---"), 'O');
+	}
+
+	/**
+	 * runs a seeded search twice on one instance and once on another, and checks they agree on the move and on every child of the root
+	 */
+	private static void assertReproducible(int threads, Ilayout layout) {
+		SearchResult[] results = new SearchResult[3];
+		try(MCTS m = new MCTS(2000, threads); MCTS other = new MCTS(2000, threads)) {
+			for(MCTS engine : new MCTS[] { m, other }) {
+				engine.setSeed(42);
+				engine.setRootStatistics(true);
+			}
+			results[0] = m.findNextMove(layout, layout.getTurn(), 2000);
+			results[1] = m.findNextMove(layout, layout.getTurn(), 2000);
+			results[2] = other.findNextMove(layout, layout.getTurn(), 2000);
+		}
+		for(int r = 1; r < results.length; r++) {
+			assertEquals(results[0].getMove(), results[r].getMove());
+			assertEquals(results[0].getSimulations(), results[r].getSimulations());
+			List<MoveStats> a = results[0].getChildren();
+			List<MoveStats> b = results[r].getChildren();
+			assertEquals(a.size(), b.size());
+			for(int i = 0; i < a.size(); i++) {
+				assertEquals(a.get(i).getMove(), b.get(i).getMove());
+				assertEquals(a.get(i).getVisits(), b.get(i).getVisits());
+				assertEquals(a.get(i).getWinScore(), b.get(i).getWinScore());
+			}
+		}
+	}
+
+	@Test
+	public void testSeededSearchIsReproducible(){
+		assertReproducible(1, new TicTacToe());
+		assertReproducible(1, new MNKGame(5, 5, 4));
+	}
+
+	@Test
+	public void testSeededRootParallelSearchIsReproducible(){
+		assertReproducible(4, new TicTacToe());
+		assertReproducible(4, new MNKGame(5, 5, 4));
+	}
+
+	/**
+	 * adds a child to a root built by hand, for the player that moved last
+	 */
+	private static MCTS.State addChild(MCTS.State root, int move, int visits, int winScore) {
+		MCTS.State child = new MCTS.State(MCTS.childOf(root.getLayout(), move));
+		child.setFather(root);
+		child.setPlayer(root.getOpponent());
+		child.setMove(move);
+		child.addVisits(visits);
+		child.addScore(winScore);
+		root.addChild(child);
+		return child;
+	}
+
+	@Test
+	public void testAmafAfterPlayout(){
+		TicTacToe t = new TicTacToe("XOX\n---\nOXO");		// every order of the last three moves ends in a draw
+		Tree tree = treeOf(t);
+		MCTS.State root = tree.getRoot();
+		MCTS.State[] children = new MCTS.State[TicTacToe.SIZE];
+		for(int cell = 3; cell <= 5; cell++)
+			children[cell] = addChild(root, cell, 0, 0);
+		root.setUntriedMoves(new int[0], 0, 3);
+		MCTS m = new MCTS(1);
+		m.setRave(true);
+		m.setReuseTree(true);
+		m.setTree(tree);
+		m.findNextMove(t, 'X', 1);
+
+		// the first child is selected, it is expanded with a move of O and the playout plays X on the last cell
+		MCTS.State selected = children[3];
+		assertEquals(1, selected.getVisits());
+		assertEquals(1, selected.getAmafVisits());
+		assertEquals(1, selected.getChildArray().size());
+		MCTS.State reply = selected.getChildArray().get(0);
+		assertEquals('O', reply.getPlayer());
+		assertEquals(1, reply.getAmafVisits());
+		int last = reply.getMove() == 4 ? 5 : 4;
+		assertEquals(0, children[last].getVisits());
+		assertEquals(1, children[last].getAmafVisits());		// X played it later in the playout
+		assertEquals(0, children[reply.getMove()].getAmafVisits());		// O played it, not X
+		for(int cell = 3; cell <= 5; cell++)
+			assertEquals(0, children[cell].getAmafScore());		// a draw scores nothing
+	}
+
+	/**
+	 * runs one simulation on a root whose first child has the best mean score and whose second child has the best amaf mean
+	 * @return the move of the child that was selected
+	 */
+	private static int selectWithRave(boolean rave, double equivalence) {
+		TicTacToe t = new TicTacToe("XOX\n---\nOXO");
+		Tree tree = treeOf(t);
+		MCTS.State root = tree.getRoot();
+		root.addVisits(30);
+		MCTS.State[] children = { addChild(root, 3, 10, 100), addChild(root, 4, 10, 0), addChild(root, 5, 10, 0) };
+		root.setUntriedMoves(new int[0], 0, 3);
+		for(int i = 0; i < 1000; i++) {
+			children[0].addAmaf(0);
+			children[1].addAmaf(10);
+		}
+		MCTS m = new MCTS(1);
+		m.setRave(rave);
+		m.setRaveEquivalence(equivalence);
+		m.setReuseTree(true);
+		m.setTree(tree);
+		m.findNextMove(t, 'X', 1);
+		for(MCTS.State child : children)
+			if(child.getVisits() == 11)
+				return child.getMove();
+		return -1;
+	}
+
+	@Test
+	public void testRaveBlend(){
+		assertEquals(3, selectWithRave(false, 300));
+		assertEquals(4, selectWithRave(true, 300));		// beta = sqrt(300 / 330), the amaf mean takes over
+		assertEquals(3, selectWithRave(true, 1e-6));		// beta is close to 0, the own mean decides
+	}
+
+	/**
+	 * checks that every state under root is the child its father thinks it is, as a state taken from the free list must be
+	 * the child returned by a search with reuseTree has no father, it is the root of the next search
+	 * @return amount of states under root, itself included
+	 */
+	private static int assertLinked(MCTS.State root) {
+		int count = 1;
+		for(MCTS.State child : root.getChildArray()) {
+			if(child.getFather() != null)
+				assertSame(root, child.getFather());
+			assertEquals(root.getOpponent(), child.getPlayer());
+			assertEquals(MCTS.childOf(root.getLayout(), child.getMove()), child.getLayout());
+			count += assertLinked(child);
+		}
+		return count;
+	}
+
+	/**
+	 * searches a new tree with a node budget
+	 * @return the root of the tree
+	 */
+	private static MCTS.State searchWithBudget(Ilayout layout, int budget, int simulations, SearchResult[] result) {
+		Tree tree = treeOf(layout);
+		MCTS m = new MCTS(simulations);
+		m.setNodeBudget(budget);
+		m.setReuseTree(true);
+		m.setTree(tree);
+		result[0] = m.findNextMove(layout, layout.getTurn(), simulations);
+		return tree.getRoot();
+	}
+
+	@Test
+	public void testNodeBudget(){
+		SearchResult[] result = new SearchResult[1];
+		MCTS.State root = searchWithBudget(new MNKGame(5, 5, 4), 300, 5000, result);
+		int size = assertLinked(root);
+		assertTrue("tree of "+size, size <= 300);
+		SearchStats stats = result[0].getStats();
+		assertTrue(stats.getEvictedNodes() > 0);
+		assertEquals(size - 1, stats.getNodes() - stats.getEvictedNodes());		// the root was already there
+		assertEquals(result[0].getSimulations(), root.getVisits());
+		int sum = 0;
+		for(MCTS.State child : root.getChildArray())
+			sum += child.getVisits();
+		assertEquals(root.getVisits(), sum);		// the children of the root are never evicted
+		assertVisitsAddUp(root, true);		// the fathers of evicted children keep their visits
+	}
+
+	/**
+	 * checks that every proven state under state that isn't over still has a child, the move that proves it
+	 */
+	private static void assertProofsKept(MCTS.State state) {
+		if(state.isProven() && !state.isTerminal())
+			assertFalse(state.getChildArray().isEmpty());
+		for(MCTS.State child : state.getChildArray())
+			assertProofsKept(child);
+	}
+
+	/**
+	 * plays a game with a single engine playing both sides, so every search continues from the tree of the last one
+	 */
+	private static void selfPlayWithBudget(boolean rave) {
+		MCTS m = new MCTS(3000);
+		m.setNodeBudget(300);
+		m.setReuseTree(true);
+		m.setRave(rave);
+		m.setSeed(0);
+		Ilayout layout = new MNKGame(6, 6, 4);
+		while(!layout.gameOver()) {
+			Ilayout move = m.findNextMove(layout, layout.getTurn());
+			assertTrue(layout.children().contains(move));
+			assertProofsKept(m.getTree().getRoot());
+			layout = move;
+		}
+	}
+
+	@Test
+	public void testSelfPlayWithBudget(){
+		selfPlayWithBudget(false);
+		selfPlayWithBudget(true);
+	}
+
+	@Test
+	public void testNodeBudgetBelowRootMoves(){
+		SearchResult[] result = new SearchResult[1];
+		MCTS.State root = searchWithBudget(new MNKGame(5, 5, 4), 10, 3000, result);
+		int size = assertLinked(root);
+		assertTrue("tree of "+size, size <= 26 + 26 / 4 + 1);		// the root and its 25 children, and a quarter more at most
+		assertEquals(3000, root.getVisits());
+		assertVisitsAddUp(root, true);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,675 @@
+package mcts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * m,n,k-game: a board of width m and height n where the first player to get k in a row wins
+ * (TicTacToe is the 3,3,3-game, Gomoku is the 15,15,5-game)
+ * ASSUME p1 ('X') starts first
+ * a move only needs the lines through the played cell to be checked, so the winner and the amount of
+ * empty cells are kept up to date by play and undo and every query about the end of the game is O(1)
+ * the empty cells themselves are kept in a list updated by play and undo, so listing the moves costs O(moves)
+ */
+public class MNKGame implements Ilayout, Cloneable {
+
+	/**
+	 * dimensions of the board and length of the line needed to win
+	 */
+	private final int width;
+	private final int height;
+	private final int k;
+
+	/**
+	 * The board, cell i = y*width + x holds emptyCell, p1 or p2
+	 */
+	private char[] board;
+
+	/**
+	 * char emptyCell represents the char in the free cells
+	 * char p1 is the player with the 'X' cell here we always assume p1 starts first
+	 * char p2 is the player with the 'O' cell
+	 */
+	private static final char emptyCell = '-';
+	private static final char p1 = 'X';
+	private static final char p2 = 'O';
+
+	/**
+	 * directions of the lines through a cell: horizontal, vertical and both diagonals
+	 */
+	private static final int[][] DIRECTIONS = {{1, 0}, {0, 1}, {1, 1}, {1, -1}};
+
+	/**
+	 * amount of moves played by each player and amount of empty cells
+	 */
+	private int p1Moves;
+	private int p2Moves;
+	private int empty;
+
+	/**
+	 * player with k in a row or emptyCell if there is none yet
+	 */
+	private char winner = emptyCell;
+
+	/**
+	 * the empty cells in no particular order, the first empty entries of the array are used
+	 * a cell is taken out by moving the last one in its place, so play and undo stay O(1)
+	 */
+	private int[] emptyCells;
+
+	/**
+	 * position of each empty cell in emptyCells, -1 for the cells that are taken
+	 */
+	private int[] emptyIndex;
+
+	/**
+	 * random keys of the zobrist hash, one per player and cell, shared by the clones of a board
+	 */
+	private final long[][] zobrist;
+
+	/**
+	 * zobrist hash of the board, kept up to date by play and undo
+	 */
+	private long hash;
+
+	/**
+	 * holds the cell number in which the last move was done
+	 * exists in [0, width*height)
+	 */
+	private int lastPlayed;
+
+	/**
+	 * cell of the last move of each player, -1 if it isn't known (boards read from a string, moves taken back)
+	 */
+	private int p1LastPlayed = -1;
+	private int p2LastPlayed = -1;
+
+	/**
+	 * constructor which starts a game with an empty board
+	 * @param width amount of columns (m)
+	 * @param height amount of rows (n)
+	 * @param k length of the line needed to win
+	 * @throws IllegalArgumentException if a dimension is less than 1 or k doesn't fit in the board
+	 */
+	MNKGame(int width, int height, int k) throws IllegalArgumentException {
+		if(width < 1 || height < 1)
+			throw new IllegalArgumentException("wrong size of board: "+width+"x"+height);
+		if(k < 1 || k > Math.max(width, height))
+			throw new IllegalArgumentException("k doesn't fit in the board: "+k);
+		this.width = width;
+		this.height = height;
+		this.k = k;
+		this.board = new char[width*height];
+		Arrays.fill(board, emptyCell);
+		this.empty = board.length;
+		this.emptyCells = new int[board.length];
+		this.emptyIndex = new int[board.length];
+		for(int i = 0; i < board.length; i++){
+			emptyCells[i] = i;
+			emptyIndex[i] = i;
+		}
+		this.zobrist = zobristKeys(board.length);
+	}
+
+	/**
+	 * Constructor that accepts a string as a board state, the dimensions come from the string
+	 * @param str - board config in string, one line per row (eg.: "X-O-\nOXO-\nXO--\n")
+	 * @param k length of the line needed to win
+	 * @throws IllegalArgumentException - if the rows have different lengths or there is an invalid character
+	 */
+	MNKGame(String str, int k) throws IllegalArgumentException {
+		this(rowLength(str), str.split("\n").length, k);
+		String[] lines = str.split("\n");
+		for(int y = 0; y < lines.length; y++){
+			if (lines[y].length() != width)
+				throw new IllegalArgumentException("size of argument (columns): "+lines[y].length());
+			for(int x = 0; x < lines[y].length(); x++){
+				if(!isValidCharacter(lines[y].charAt(x)))
+					throw new IllegalArgumentException("Invalid character in argument: "+lines[y].charAt(x));
+				if(isValidPlayer(lines[y].charAt(x)))
+					play(x, y, lines[y].charAt(x));
+			}
+		}
+		this.lastPlayed = 0;
+		this.p1LastPlayed = -1;
+		this.p2LastPlayed = -1;
+	}
+
+	/**
+	 * @param str board config in string
+	 * @return length of the first row
+	 */
+	private static int rowLength(String str) {
+		return str.split("\n")[0].length();
+	}
+
+	/**
+	 * draws the zobrist keys
+	 * @param cells amount of cells in the board
+	 * @return a table with a key for each player (0 for p1 and 1 for p2) and cell
+	 */
+	private static long[][] zobristKeys(int cells){
+		SplittableRandom random = new SplittableRandom(0x7AC7AC7AL);
+		long[][] keys = new long[2][cells];
+		for(int i = 0; i < cells; i++){
+			keys[0][i] = random.nextLong();
+			keys[1][i] = random.nextLong();
+		}
+		return keys;
+	}
+
+	/**
+	 * getter for the width
+	 * @return amount of columns (m)
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * getter for the height
+	 * @return amount of rows (n)
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/**
+	 * getter for k
+	 * @return length of the line needed to win
+	 */
+	public int getK() {
+		return k;
+	}
+
+	/**
+	 * checks if the char is a player
+	 * @param c - char to eval
+	 * @return true if c is 'O' or 'X'
+	 */
+	public boolean isValidPlayer(char c){
+		return c == p1 || c == p2;
+	}
+
+	/**
+	 * checks if char is a valid character in the context of this game
+	 * @param c - char to eval
+	 * @return true if c is 'O', 'X', or '-'
+	 */
+	public boolean isValidCharacter(char c){
+		return isValidPlayer(c) || c == emptyCell;
+	}
+
+	/**
+	 * checks if the coordinates are within the board
+	 * @param x int x coordinate
+	 * @param y int y coordinate
+	 * @return true if x exists in [0, width) and y in [0, height)
+	 */
+	public boolean inBounds(int x, int y){
+		return x >= 0 && x < width && y >= 0 && y < height;
+	}
+
+	/**
+	 * gets the char in the board at x and y
+	 * @param x int x coordinate
+	 * @param y int y coordinate
+	 * @return char in the x,y on the board
+	 * @throws IllegalArgumentException if x or y aren't in bounds
+	 */
+	public char get(int x, int y) throws IllegalArgumentException {
+		if(!inBounds(x, y))
+			throw new IllegalArgumentException(x+" or "+y+" are not in bounds");
+		return board[y*width + x];
+	}
+
+	/**
+	 * gets the char in the nth space in the board
+	 * @param i space on the board, x = i%width and y = i/width
+	 * @return char in the cell i
+	 * @throws IllegalArgumentException if i doesn't belong in [0, width*height)
+	 */
+	public char get(int i) throws IllegalArgumentException {
+		return get(i%width, i/width);
+	}
+
+	/**
+	 * sets the char "player" onto the board if it is a valid player and the cell isn't occupied,
+	 * then checks the lines through the cell for a winner
+	 * @param x int x coordinate
+	 * @param y int y coordinate
+	 * @param player char representing the player to play this turn
+	 * @throws IllegalArgumentException if char player isn't a valid player, the cell is occupied or out of bounds
+	 */
+	public void play(int x, int y, char player) throws IllegalArgumentException {
+		if(!isValidPlayer(player))
+			throw new IllegalArgumentException("char '"+player+"' isn't a valid player, valid players: "+p1+" and "+p2);
+		if(isValidPlayer(this.get(x, y)))
+			throw new IllegalArgumentException("this cell is already occupied by "+this.get(x, y));
+		int i = y*width + x;
+		board[i] = player;
+		lastPlayed = i;
+		int last = emptyCells[--empty];
+		emptyCells[emptyIndex[i]] = last;
+		emptyIndex[last] = emptyIndex[i];
+		emptyIndex[i] = -1;
+		if(player == p1){
+			p1Moves++;
+			p1LastPlayed = i;
+			hash ^= zobrist[0][i];
+		}else{
+			p2Moves++;
+			p2LastPlayed = i;
+			hash ^= zobrist[1][i];
+		}
+		if(winner == emptyCell && makesLine(x, y, player))
+			winner = player;
+	}
+
+	/**
+	 * uses function play(x, y, player) with the player whose turn it is
+	 * @param x int x coordinate
+	 * @param y int y coordinate
+	 * @throws IllegalArgumentException if the arguments aren't accepted by play(x, y, player)
+	 */
+	public void play(int x, int y) throws IllegalArgumentException {
+		this.play(x, y, getTurn());
+	}
+
+	/**
+	 * uses function play(x, y) with a single argument that represents a space in the board
+	 * @param i int i is split into: i%width which represents x and i/width which represents y
+	 */
+	public void play(int i){
+		this.play(i%width, i/width);
+	}
+
+	/**
+	 * takes back the move in the cell i, leaving it empty (the inverse of play(i))
+	 * @param i int cell to clear, exists in [0, width*height)
+	 */
+	public void undo(int i){
+		char player = board[i];
+		if(!isValidPlayer(player))
+			return;
+		board[i] = emptyCell;
+		emptyCells[empty] = i;
+		emptyIndex[i] = empty++;
+		if(player == p1){
+			p1Moves--;
+			if(p1LastPlayed == i)
+				p1LastPlayed = -1;
+			hash ^= zobrist[0][i];
+		}else{
+			p2Moves--;
+			if(p2LastPlayed == i)
+				p2LastPlayed = -1;
+			hash ^= zobrist[1][i];
+		}
+		if(winner == player)
+			winner = findWinner();
+	}
+
+	/**
+	 * counts the stones of player in a row through x,y along each direction
+	 * @param x int x coordinate of the cell just played
+	 * @param y int y coordinate of the cell just played
+	 * @param player char of the player that played it
+	 * @return true if any of the lines through x,y has at least k stones of player
+	 */
+	private boolean makesLine(int x, int y, char player){
+		for(int[] d : DIRECTIONS){
+			int count = 1 + run(x, y, d[0], d[1], player) + run(x, y, -d[0], -d[1], player);
+			if(count >= k)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @param x int x coordinate of the starting cell (not counted)
+	 * @param y int y coordinate of the starting cell (not counted)
+	 * @param dx step in x
+	 * @param dy step in y
+	 * @param player char of the player
+	 * @return amount of consecutive stones of player after x,y in the direction dx,dy (at most k-1)
+	 */
+	private int run(int x, int y, int dx, int dy, char player){
+		int count = 0;
+		x += dx;
+		y += dy;
+		while(count < k-1 && inBounds(x, y) && board[y*width + x] == player){
+			count++;
+			x += dx;
+			y += dy;
+		}
+		return count;
+	}
+
+	/**
+	 * looks for an empty cell that gives player k in a row on one of the lines through the cell c, without playing it
+	 * such a line holds the whole run of stones through c, so only the two cells at the ends of each run are checked
+	 * @param c cell of a stone of player, -1 for none
+	 * @param player char of the player
+	 * @return the first such cell found or -1 if there is none
+	 */
+	public int findWinningCell(int c, char player){
+		if(c < 0 || board[c] != player)
+			return -1;
+		int cx = c % width;
+		int cy = c / width;
+		for(int[] d : DIRECTIONS){
+			int ahead = run(cx, cy, d[0], d[1], player);
+			int behind = run(cx, cy, -d[0], -d[1], player);
+			int cell = completingCell(cx + (ahead+1)*d[0], cy + (ahead+1)*d[1], d[0], d[1], 1 + ahead + behind, player);
+			if(cell < 0)
+				cell = completingCell(cx - (behind+1)*d[0], cy - (behind+1)*d[1], -d[0], -d[1], 1 + ahead + behind, player);
+			if(cell >= 0)
+				return cell;
+		}
+		return -1;
+	}
+
+	/**
+	 * looks for an empty cell that gives player k in a row, without playing it
+	 * only the lines through the last stone of player are checked, where the new threats of a playout appear,
+	 * so a threat made by an earlier stone and left open can be missed; when the last stone isn't known
+	 * (a board read from a string or a move taken back) the lines through every stone of player are checked
+	 * @param player char of the player
+	 * @return such a cell or -1 if none was found
+	 */
+	public int findWinningMove(char player){
+		int last = getLastPlayed(player);
+		if(last >= 0)
+			return findWinningCell(last, player);
+		for(int i = 0; i < board.length; i++){
+			int cell = findWinningCell(i, player);
+			if(cell >= 0)
+				return cell;
+		}
+		return -1;
+	}
+
+	/**
+	 * @param x int x coordinate of the cell at the end of a run
+	 * @param y int y coordinate of the cell at the end of a run
+	 * @param dx step in x, away from the run
+	 * @param dy step in y, away from the run
+	 * @param length amount of stones in the run
+	 * @param player char of the player
+	 * @return the cell x,y if it is empty and playing it gives player k in a row along the run, -1 otherwise
+	 */
+	private int completingCell(int x, int y, int dx, int dy, int length, char player){
+		if(!inBounds(x, y) || board[y*width + x] != emptyCell)
+			return -1;
+		return length + 1 + run(x, y, dx, dy, player) >= k ? y*width + x : -1;
+	}
+
+	/**
+	 * scans the whole board for a winner, only needed when the winning move is taken back
+	 * @return the first player found with k in a row or emptyCell
+	 */
+	private char findWinner(){
+		for(int i = 0; i < board.length; i++)
+			if(isValidPlayer(board[i]) && makesLine(i%width, i/width, board[i]))
+				return board[i];
+		return emptyCell;
+	}
+
+	/**
+	 * @param other any layout
+	 * @return true if other is a MNKGame with the same dimensions, the only kind of layout copyFrom accepts
+	 */
+	public boolean canCopyFrom(Ilayout other) {
+		if(!(other instanceof MNKGame))
+			return false;
+		MNKGame o = (MNKGame) other;
+		return o.width == width && o.height == height && o.k == k;
+	}
+
+	/**
+	 * same as copyFrom(MNKGame) for any layout
+	 * @param other MNKGame of the same dimensions whose config will be copied
+	 * @throws IllegalArgumentException if other isn't a MNKGame or its dimensions are different
+	 */
+	public void copyFrom(Ilayout other) throws IllegalArgumentException {
+		if(!(other instanceof MNKGame))
+			throw new IllegalArgumentException("can't copy a "+other.getClass().getSimpleName()+" into a MNKGame");
+		copyFrom((MNKGame) other);
+	}
+
+	/**
+	 * overwrites this board with the board of other, used to reuse an instance instead of cloning
+	 * @param other MNKGame of the same dimensions whose config will be copied
+	 * @throws IllegalArgumentException if the dimensions of other are different
+	 */
+	public void copyFrom(MNKGame other) throws IllegalArgumentException {
+		if(other.width != width || other.height != height || other.k != k)
+			throw new IllegalArgumentException("boards have different dimensions");
+		System.arraycopy(other.board, 0, this.board, 0, board.length);
+		this.p1Moves = other.p1Moves;
+		this.p2Moves = other.p2Moves;
+		this.empty = other.empty;
+		System.arraycopy(other.emptyCells, 0, this.emptyCells, 0, empty);
+		System.arraycopy(other.emptyIndex, 0, this.emptyIndex, 0, emptyIndex.length);
+		this.winner = other.winner;
+		this.hash = other.hash;
+		this.lastPlayed = other.lastPlayed;
+		this.p1LastPlayed = other.p1LastPlayed;
+		this.p2LastPlayed = other.p2LastPlayed;
+	}
+
+	/**
+	 * gets the turn
+	 * p1 plays whenever both players played the same amount of times, otherwise it's p2's turn
+	 * @return the player to move
+	 */
+	public char getTurn(){
+		return p1Moves == p2Moves ? p1 : p2;
+	}
+
+	/**
+	 * gets the cell that was last played
+	 * @return the last turn of this config
+	 */
+	public int getLastPlayed() {
+		return lastPlayed;
+	}
+
+	/**
+	 * gets the cell of the last move of a player
+	 * @param player char representing the player
+	 * @return the cell or -1 if the player hasn't played or it isn't known
+	 */
+	public int getLastPlayed(char player) {
+		return player == p1 ? p1LastPlayed : p2LastPlayed;
+	}
+
+	/**
+	 * @return amount of empty cells in the board
+	 */
+	public int getEmptyCount() {
+		return empty;
+	}
+
+	/**
+	 * spits out a list with all derivable configs from the current config
+	 * @return list of all possible layouts from this config
+	 */
+	public List<Ilayout> children(){
+		List<Ilayout> result = new LinkedList<>();
+		if(winner != emptyCell)
+			return result;
+		for(int i = 0; i < board.length; i++){
+			if(board[i] == emptyCell){
+				MNKGame child = (MNKGame) this.clone();
+				child.play(i);
+				result.add(child);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return amount of cells, the most moves a config can have
+	 */
+	public int getMaxMoves() {
+		return board.length;
+	}
+
+	/**
+	 * the moves of a m,n,k-game are the empty cells, as long as no one has k in a row
+	 * they are copied from the list of empty cells, so their order changes as moves are played and taken back
+	 * @param moves buffer with room for at least width*height cells
+	 * @return amount of moves written into moves
+	 */
+	public int getMoves(int[] moves) {
+		if(winner != emptyCell)
+			return 0;
+		System.arraycopy(emptyCells, 0, moves, 0, empty);
+		return empty;
+	}
+
+	/**
+	 * writes the empty cells into a buffer, in increasing order
+	 * @param positions buffer with room for at least width*height cells
+	 * @return amount of empty cells written into positions
+	 */
+	public int getEmptyPositions(int[] positions) {
+		int count = 0;
+		for(int i = 0; i < board.length; i++)
+			if(board[i] == emptyCell)
+				positions[count++] = i;
+		return count;
+	}
+
+	/**
+	 * @return list with the empty cells
+	 */
+	public List<Integer> getEmptyPositions() {
+		List<Integer> emptyPositions = new ArrayList<>(empty);
+		for(int i = 0; i < board.length; i++)
+			if(board[i] == emptyCell)
+				emptyPositions.add(i);
+		return emptyPositions;
+	}
+
+	/**
+	 * checks if argument "player" won the game
+	 * @param player char that represents the player
+	 * @return true if player has k in a row
+	 * @throws IllegalArgumentException if char "player" isn't a valid player aka isn't a 'O' or 'X'
+	 */
+	public boolean winCheck(char player) throws IllegalArgumentException {
+		if(!isValidPlayer(player))
+			throw new IllegalArgumentException("char "+player+" isn't a valid player, valid players: "+p1+" and "+p2);
+		return winner == player;
+	}
+
+	/**
+	 * checks if the game is over by draw
+	 * @return true if there are no empty cells and no one won
+	 */
+	public boolean drawCheck(){
+		return empty == 0 && winner == emptyCell;
+	}
+
+	/**
+	 * @return true if game is over and false otherwise
+	 */
+	public boolean gameOver(){
+		return empty == 0 || winner != emptyCell;
+	}
+
+	/**
+	 * @return the player with k in a row, '-' for a draw or ONGOING if the game isn't over
+	 */
+	public char getResult(){
+		if(winner != emptyCell)
+			return winner;
+		return empty == 0 ? DRAW : ONGOING;
+	}
+
+	/**
+	 * @return amount of visits
+	 */
+	public int getVisits(){
+		return 1;
+	}
+
+	/**
+	 * @param player char representing the player whose wins will be returned
+	 * @return amount of "player"'s wins
+	 */
+	public int getWins(char player){
+		return winCheck(player) ? 1 : 0;
+	}
+
+	/**
+	 * getter for the zobrist hash
+	 * @return the 64 bit hash of the board, equal boards always have equal hashes
+	 */
+	public long getHash(){
+		return hash;
+	}
+
+	/**
+	 * @param other object to eval
+	 * @return true if other is a MNKGame with the same dimensions and cells, false otherwise
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if (other == this) return true;
+		if (!(other instanceof MNKGame that)) return false;
+		return this.width == that.width && this.height == that.height && this.k == that.k
+			&& this.hash == that.hash && Arrays.equals(this.board, that.board);
+	}
+
+	/**
+	 * @return the zobrist hash folded into an int, consistent with equals
+	 */
+	@Override
+	public int hashCode() {
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	/**
+	 * toString method
+	 * @return a string representing the config of the current game, one line per row
+	 */
+	@Override
+	public String toString(){
+		StringBuilder result = new StringBuilder(height*(width+1));
+		for(int y = 0; y < height; y++){
+			result.append(board, y*width, width);
+			result.append('\n');
+		}
+		return result.toString();
+	}
+
+	/**
+	 * clone method
+	 * @return a clone of the instance used upon, the zobrist keys are shared
+	 */
+	public Object clone(){
+		try{
+			MNKGame result = (MNKGame) super.clone();
+			result.board = board.clone();
+			result.emptyCells = emptyCells.clone();
+			result.emptyIndex = emptyIndex.clone();
+			return result;
+		}catch(CloneNotSupportedException e){
+			throw new AssertionError(e);			//this line should be unreachable since this object is clonable
+		}
+	}
+
+	/**
+	 * @return a clone of the instance used upon
+	 */
+	public Ilayout copy(){
+		return (Ilayout) clone();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,257 @@
+package mcts;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class MNKGameTest {
+	@Test
+	public void testConstructor1(){	// also tests toString
+		MNKGame game = new MNKGame(4, 2, 3);
+		String expected =	"----\n"+
+							"----\n";
+		assertEquals(expected, game.toString());
+		assertEquals(8, game.getEmptyCount());
+	}
+
+	@Test
+	public void testConstructor2(){	// also tests toString
+		String expected =	"-O--\n"+
+							"O--X\n"+
+							"--X-\n";
+		MNKGame game = new MNKGame(expected, 3);
+		assertEquals(expected, game.toString());
+		assertEquals(4, game.getWidth());
+		assertEquals(3, game.getHeight());
+		assertEquals(8, game.getEmptyCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorExceptions1(){
+		String wrong =	"-O--\n"+
+						"O--\n"+	// row is too short
+						"--X-\n";
+		new MNKGame(wrong, 3);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testConstructorExceptions2(){
+		new MNKGame(3, 3, 4);	// k doesn't fit
+	}
+
+	@Test
+	public void testPlay(){
+		MNKGame game = new MNKGame(5, 5, 4);
+		assertEquals('X', game.getTurn());
+		game.play(12);
+		assertEquals('X', game.get(2, 2));
+		assertEquals('O', game.getTurn());
+		game.play(0, 4);
+		assertEquals('O', game.get(20));
+		assertEquals(20, game.getLastPlayed());
+		assertEquals(23, game.getEmptyCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPlayException(){
+		MNKGame game = new MNKGame(5, 5, 4);
+		game.play(7);
+		game.play(7);
+	}
+
+	@Test
+	public void testWinCheck(){
+		String input =	"-----\n"+
+						"-XXX-\n"+
+						"-OO--\n";
+		MNKGame game = new MNKGame(input, 4);
+		assertFalse(game.winCheck('X'));
+		game.play(4, 1, 'X');
+		assertTrue(game.winCheck('X'));
+		assertFalse(game.winCheck('O'));
+		assertTrue(game.gameOver());
+
+		input =	"X----\n"+
+				"-X---\n"+
+				"--X--\n"+
+				"---X-\n";
+		assertTrue(new MNKGame(input, 4).winCheck('X'));
+
+		input =	"---O-\n"+
+				"--O--\n"+
+				"-O---\n"+
+				"O----\n";
+		assertTrue(new MNKGame(input, 4).winCheck('O'));
+
+		input =	"O----\n"+
+				"O----\n"+
+				"O----\n"+
+				"-----\n";
+		assertFalse(new MNKGame(input, 4).winCheck('O'));
+	}
+
+	@Test
+	public void testUndo(){
+		String input =	"-----\n"+
+						"-XXX-\n"+
+						"-OOO-\n";
+		MNKGame game = new MNKGame(input, 4);
+		long hash = game.getHash();
+		game.play(4, 1, 'X');
+		assertTrue(game.winCheck('X'));
+		game.undo(9);
+		assertFalse(game.winCheck('X'));
+		assertEquals(hash, game.getHash());
+		assertEquals(new MNKGame(input, 4), game);
+	}
+
+	@Test
+	public void testDrawCheck(){
+		String input =	"XOX\n"+
+						"OXO\n"+
+						"OXO\n";
+		MNKGame game = new MNKGame(input, 3);
+		assertTrue(game.drawCheck());
+		assertTrue(game.gameOver());
+		input =	"XOX\n"+
+				"OX-\n"+
+				"OXO\n";
+		game = new MNKGame(input, 3);
+		assertFalse(game.drawCheck());
+		assertFalse(game.gameOver());
+	}
+
+	@Test
+	public void testChildren(){
+		String input =	"X-X\n"+
+						"OXO\n"+
+						"OX-\n";
+		MNKGame game = new MNKGame(input, 3);
+		assertEquals(2, game.children().size());
+		assertEquals(new MNKGame("XOX\nOXO\nOX-\n", 3), game.children().get(0));
+		assertEquals(0, new MNKGame("XXX\nOO-\n---\n", 3).children().size());
+	}
+
+	@Test
+	public void testEqualsAndHashCode(){
+		MNKGame a = new MNKGame(6, 6, 4);
+		MNKGame b = new MNKGame(6, 6, 4);
+		a.play(3);
+		a.play(20);
+		a.play(10);
+		b.play(10);
+		b.play(20);
+		b.play(3);
+		assertEquals(a, b);
+		assertEquals(a.hashCode(), b.hashCode());
+		assertNotEquals(new MNKGame(6, 6, 4), a);
+		assertNotEquals(new MNKGame(3, 3, 3), "x");
+		assertNotEquals(new MNKGame(3, 3, 3), new TicTacToe());
+		assertNotEquals(new MNKGame(3, 3, 3), null);
+	}
+
+	@Test
+	public void testCopyFrom(){
+		String input =	"X---\n"+
+						"-O--\n"+
+						"--X-\n";
+		MNKGame game = new MNKGame(4, 3, 3);
+		game.copyFrom(new MNKGame(input, 3));
+		assertEquals(input, game.toString());
+		assertEquals('O', game.getTurn());
+	}
+
+	@Test
+	public void testFindWinningCell(){
+		MNKGame game = new MNKGame(6, 6, 4);
+		game.play(0, 0);	// X
+		game.play(0, 5);	// O
+		game.play(1, 1);	// X
+		game.play(1, 5);	// O
+		game.play(3, 3);	// X, gap at 2,2
+		assertEquals(3*6 + 3, game.getLastPlayed('X'));
+		assertEquals(5*6 + 1, game.getLastPlayed('O'));
+		assertEquals(2*6 + 2, game.findWinningCell(game.getLastPlayed('X'), 'X'));
+		assertEquals(-1, game.findWinningCell(game.getLastPlayed('O'), 'O'));
+		assertEquals(-1, game.findWinningCell(-1, 'X'));
+		game.undo(3*6 + 3);
+		assertEquals(-1, game.getLastPlayed('X'));
+	}
+
+	@Test
+	public void testMoveApi(){
+		Ilayout game = new MNKGame(4, 3, 3);
+		int[] moves = new int[game.getMaxMoves()];
+		assertEquals(12, moves.length);
+		assertEquals(12, game.getMoves(moves));
+		game.play(0);
+		game.play(4);
+		game.play(1);
+		game.play(5);
+		assertEquals(Ilayout.ONGOING, game.getResult());
+		game.play(2);
+		assertEquals('X', game.getResult());
+		assertEquals(0, game.getMoves(moves));
+		assertEquals(Ilayout.DRAW, new MNKGame("XOX\nXOO\nOXX\n", 3).getResult());
+		Ilayout copy = new MNKGame(4, 3, 3);
+		copy.copyFrom(game);
+		assertEquals(game, copy);
+		assertEquals(game.getHash(), copy.copy().getHash());
+	}
+
+	private static void assertMovesAreEmptyCells(MNKGame game){
+		int[] moves = new int[game.getMaxMoves()];
+		int count = game.getMoves(moves);
+		int[] sorted = Arrays.copyOf(moves, count);
+		Arrays.sort(sorted);
+		int[] empty = new int[game.getMaxMoves()];
+		assertArrayEquals(Arrays.copyOf(empty, game.getEmptyPositions(empty)), sorted);
+		assertEquals(game.getEmptyCount(), count);
+	}
+
+	@Test
+	public void testMovesFollowPlayAndUndo(){
+		MNKGame game = new MNKGame(5, 4, 4);
+		SplittableRandom random = new SplittableRandom(11);
+		int[] moves = new int[game.getMaxMoves()];
+		int[] played = new int[game.getMaxMoves()];
+		int plies = 0;
+		for(int step = 0; step < 200; step++){
+			int count = game.getMoves(moves);
+			if(count > 0 && (plies == 0 || random.nextInt(3) != 0)){
+				played[plies] = moves[random.nextInt(count)];
+				game.play(played[plies++]);
+			}
+			else if(plies > 0)
+				game.undo(played[--plies]);
+			if(game.getResult() == Ilayout.ONGOING)
+				assertMovesAreEmptyCells(game);
+			MNKGame copy = new MNKGame(5, 4, 4);
+			copy.copyFrom(game);
+			assertEquals(game.getMoves(moves), copy.getMoves(new int[game.getMaxMoves()]));
+			if(game.getResult() == Ilayout.ONGOING){
+				assertMovesAreEmptyCells(copy);
+				assertMovesAreEmptyCells((MNKGame) game.clone());
+			}
+		}
+		assertMovesAreEmptyCells(new MNKGame("X-O-\nOXO-\nXO--\n", 4));
+	}
+
+	@Test
+	public void testCanCopyFrom(){
+		MNKGame game = new MNKGame(4, 3, 3);
+		assertTrue(game.canCopyFrom(new MNKGame(4, 3, 3)));
+		assertFalse(game.canCopyFrom(new MNKGame(3, 4, 3)));
+		assertFalse(game.canCopyFrom(new MNKGame(4, 3, 4)));
+		assertFalse(game.canCopyFrom(new TicTacToe()));
+		assertFalse(new TicTacToe().canCopyFrom(game));
+		assertFalse(new ConnectFour().canCopyFrom(game));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCopyFromOtherGame(){
+		new MNKGame(3, 3, 3).copyFrom(new TicTacToe());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package mcts;
+
+/**
+ * Statistics of one child of the root at the end of a search
+ */
+public class MoveStats {
+
+	/**
+	 * the game config after the move
+	 */
+	private final Ilayout move;
+
+	/**
+	 * visits of the child
+	 */
+	private final int visits;
+
+	/**
+	 * win score of the child
+	 */
+	private final int winScore;
+
+	/**
+	 * constructor that sets every attribute
+	 * @param move the game config after the move
+	 * @param visits visits of the child
+	 * @param winScore win score of the child
+	 */
+	public MoveStats(Ilayout move, int visits, int winScore) {
+		this.move = move;
+		this.visits = visits;
+		this.winScore = winScore;
+	}
+
+	/**
+	 * getter for the move
+	 * @return the game config after the move
+	 */
+	public Ilayout getMove() {
+		return move;
+	}
+
+	/**
+	 * getter for the visits
+	 * @return visits of the child
+	 */
+	public int getVisits() {
+		return visits;
+	}
+
+	/**
+	 * getter for the win score
+	 * @return win score of the child
+	 */
+	public int getWinScore() {
+		return winScore;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,223 @@
+package mcts;
+
+import java.util.Arrays;
+
+/**
+ * Tree store made of primitive parallel arrays, an alternative to a tree of MCTS.State objects
+ * a node is an index into the arrays and the children of a node take consecutive indices,
+ * so a node only needs the index of its first child and how many children it has
+ * the layout of a node isn't stored, it is rebuilt by replaying the moves from the root
+ * the pool is emptied with reset() and its arrays are reused by the next search
+ */
+class NodePool {
+
+	/**
+	 * index of the root, always the first node of the pool
+	 */
+	static final int ROOT = 0;
+
+	/**
+	 * parent index of the root and first child index of a node that wasn't expanded
+	 */
+	static final int NONE = -1;
+
+	/**
+	 * statistics of each node, same meaning as the visits and win score of MCTS.State
+	 */
+	private int[] visits;
+	private int[] score;
+
+	/**
+	 * winner of each node under perfect play once the solver proved it, MCTS.UNPROVEN until then
+	 */
+	private char[] proven;
+
+	/**
+	 * structure of the tree, in indices of the pool
+	 */
+	private int[] parent;
+	private int[] firstChild;
+	private int[] childCount;
+
+	/**
+	 * move played from the parent to reach each node (the cell, for TicTacToe)
+	 */
+	private int[] move;
+
+	/**
+	 * amount of nodes in use
+	 */
+	private int size;
+
+	/**
+	 * constructor that allocates the arrays
+	 * @param capacity amount of nodes the pool holds before growing
+	 */
+	public NodePool(int capacity) {
+		capacity = Math.max(capacity, 1);
+		this.visits = new int[capacity];
+		this.score = new int[capacity];
+		this.proven = new char[capacity];
+		this.parent = new int[capacity];
+		this.firstChild = new int[capacity];
+		this.childCount = new int[capacity];
+		this.move = new int[capacity];
+	}
+
+	/**
+	 * empties the pool and creates a new root
+	 */
+	public void reset() {
+		this.size = 0;
+		init(ROOT, NONE, NONE);
+		this.size = 1;
+	}
+
+	/**
+	 * @return amount of nodes in use
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return amount of nodes the pool holds before growing
+	 */
+	public int capacity() {
+		return visits.length;
+	}
+
+	/**
+	 * sets a fresh node
+	 * @param node index of the node
+	 * @param parent index of its parent
+	 * @param move move that reaches it from its parent
+	 */
+	private void init(int node, int parent, int move) {
+		this.visits[node] = 0;
+		this.score[node] = 0;
+		this.proven[node] = MCTS.UNPROVEN;
+		this.parent[node] = parent;
+		this.firstChild[node] = NONE;
+		this.childCount[node] = 0;
+		this.move[node] = move;
+	}
+
+	/**
+	 * doubles the arrays until count more nodes fit
+	 * @param count amount of nodes about to be added
+	 */
+	private void ensureCapacity(int count) {
+		int needed = size + count;
+		if(needed <= visits.length)
+			return;
+		int capacity = visits.length;
+		while(capacity < needed)
+			capacity *= 2;
+		this.visits = Arrays.copyOf(visits, capacity);
+		this.score = Arrays.copyOf(score, capacity);
+		this.proven = Arrays.copyOf(proven, capacity);
+		this.parent = Arrays.copyOf(parent, capacity);
+		this.firstChild = Arrays.copyOf(firstChild, capacity);
+		this.childCount = Arrays.copyOf(childCount, capacity);
+		this.move = Arrays.copyOf(move, capacity);
+	}
+
+	/**
+	 * expands a node, one child per move
+	 * @param node index of the node to expand
+	 * @param moves buffer with the legal moves of the node
+	 * @param count amount of moves in the buffer
+	 * @return index of the first child
+	 */
+	public int expand(int node, int[] moves, int count) {
+		ensureCapacity(count);
+		int first = size;
+		for(int i = 0; i < count; i++)
+			init(first + i, node, moves[i]);
+		this.firstChild[node] = first;
+		this.childCount[node] = count;
+		this.size += count;
+		return first;
+	}
+
+	/**
+	 * getter for the visits of a node
+	 */
+	public int getVisits(int node) {
+		return visits[node];
+	}
+
+	/**
+	 * increments the visits of a node
+	 */
+	public void incrementVisits(int node) {
+		visits[node]++;
+	}
+
+	/**
+	 * getter for the win score of a node
+	 */
+	public int getScore(int node) {
+		return score[node];
+	}
+
+	/**
+	 * setter for the win score of a node
+	 */
+	public void setScore(int node, int value) {
+		score[node] = value;
+	}
+
+	/**
+	 * adds to the score of a node
+	 * @param node index of the node
+	 * @param value amount to add
+	 */
+	public void addScore(int node, int value) {
+		score[node] += value;
+	}
+
+	/**
+	 * getter for the proven winner of a node
+	 * @return 'O', 'X', '-' for a draw or MCTS.UNPROVEN
+	 */
+	public char getProven(int node) {
+		return proven[node];
+	}
+
+	/**
+	 * setter for the proven winner of a node
+	 */
+	public void setProven(int node, char winner) {
+		proven[node] = winner;
+	}
+
+	/**
+	 * getter for the parent of a node
+	 */
+	public int getParent(int node) {
+		return parent[node];
+	}
+
+	/**
+	 * getter for the first child of a node
+	 */
+	public int getFirstChild(int node) {
+		return firstChild[node];
+	}
+
+	/**
+	 * getter for the amount of children of a node
+	 */
+	public int getChildCount(int node) {
+		return childCount[node];
+	}
+
+	/**
+	 * getter for the move that reaches a node
+	 */
+	public int getMove(int node) {
+		return move[node];
+	}
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package mcts;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class NodePoolTest {
+
+	@Test
+	public void testReset(){
+		NodePool pool = new NodePool(4);
+		pool.reset();
+		assertEquals(1, pool.size());
+		assertEquals(NodePool.NONE, pool.getParent(NodePool.ROOT));
+		assertEquals(NodePool.NONE, pool.getFirstChild(NodePool.ROOT));
+		assertEquals(0, pool.getChildCount(NodePool.ROOT));
+		pool.expand(NodePool.ROOT, new int[] { 4, 7 }, 2);
+		pool.incrementVisits(NodePool.ROOT);
+		pool.addScore(NodePool.ROOT, 10);
+		pool.setProven(NodePool.ROOT, 'X');
+		pool.reset();
+		assertEquals(1, pool.size());
+		assertEquals(0, pool.getVisits(NodePool.ROOT));
+		assertEquals(0, pool.getScore(NodePool.ROOT));
+		assertEquals(MCTS.UNPROVEN, pool.getProven(NodePool.ROOT));
+		assertEquals(0, pool.getChildCount(NodePool.ROOT));
+	}
+
+	@Test
+	public void testExpand(){
+		NodePool pool = new NodePool(2);
+		pool.reset();
+		int[] moves = { 0, 2, 5, 8 };
+		int first = pool.expand(NodePool.ROOT, moves, 3);		// only the first three moves
+		assertEquals(1, first);
+		assertEquals(4, pool.size());
+		assertTrue(pool.capacity() >= 4);
+		assertEquals(first, pool.getFirstChild(NodePool.ROOT));
+		assertEquals(3, pool.getChildCount(NodePool.ROOT));
+		for(int i = 0; i < 3; i++) {
+			assertEquals(NodePool.ROOT, pool.getParent(first + i));
+			assertEquals(moves[i], pool.getMove(first + i));
+			assertEquals(0, pool.getVisits(first + i));
+			assertEquals(0, pool.getChildCount(first + i));
+		}
+		int grandchild = pool.expand(first + 1, new int[] { 3 }, 1);
+		assertEquals(4, grandchild);
+		assertEquals(first + 1, pool.getParent(grandchild));
+		assertEquals(3, pool.getMove(grandchild));
+	}
+
+	@Test
+	public void testSearchFindsWin(){
+		MCTS m = new MCTS(1750);
+		m.setNodePool(true);
+		TicTacToe t = new TicTacToe("XOX\n-O-\n---");		// O threatens the middle column
+		assertEquals(7, ((TicTacToe) m.findNextMove(t, 'X')).getLastPlayed());
+		t = new TicTacToe("XX-\nOO-\n---");
+		assertEquals(2, ((TicTacToe) m.findNextMove(t, 'X')).getLastPlayed());
+	}
+
+	@Test
+	public void testSearchStatistics(){
+		MCTS m = new MCTS(1000);
+		m.setNodePool(true);
+		m.setRootStatistics(true);
+		SearchResult result = m.findNextMove(new MNKGame(4, 4, 3), 'X', 1000);
+		assertEquals(1000, result.getSimulations());
+		assertEquals(16, result.getChildren().size());
+		int visits = 0;
+		for(MoveStats child : result.getChildren())
+			visits += child.getVisits();
+		assertEquals(1000, visits);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSearchRejectsGameOver(){
+		MCTS m = new MCTS(100);
+		m.setNodePool(true);
+		m.findNextMove(new TicTacToe("XXX\nOO-\n---"), 'O');
+	}
+}
\ No newline at end of file
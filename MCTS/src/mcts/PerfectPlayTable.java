@@ -0,0 +1,191 @@
+package mcts;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Perfect play for every legal TicTacToe position, read from a memory-mapped file
+ * the file has a header (magic, version and amount of entries) followed by one byte per board code
+ * (see TicTacToe.getCode): the low 4 bits hold the best cell, NO_MOVE for positions where the game is over,
+ * and the next 2 bits the result under perfect play, 0 for codes that aren't a legal position
+ * the best move wins as fast as possible, or draws, or loses as slowly as possible
+ */
+public class PerfectPlayTable {
+
+	/**
+	 * first bytes of the file, "TTT3"
+	 */
+	private static final int MAGIC = 0x54545433;
+
+	/**
+	 * version of the format, changed whenever the layout of the entries changes
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * size of the header: magic, version and amount of entries
+	 */
+	private static final int HEADER = 12;
+
+	/**
+	 * best cell of the positions where the game is over
+	 */
+	private static final int NO_MOVE = 0xF;
+
+	/**
+	 * results as stored in bits 4 and 5 of an entry
+	 */
+	private static final int ILLEGAL = 0;
+	private static final int X_WINS = 1;
+	private static final int O_WINS = 2;
+	private static final int DRAW = 3;
+
+	/**
+	 * the mapped file, only read with absolute gets so it can be shared between threads
+	 */
+	private final ByteBuffer entries;
+
+	/**
+	 * constructor that wraps the entries of a table
+	 * @param entries buffer with one entry per code
+	 */
+	private PerfectPlayTable(ByteBuffer entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * maps a table written by generate
+	 * @param file the table
+	 * @return the mapped table
+	 * @throws IOException if the file can't be read
+	 * @throws IllegalArgumentException if the file isn't a table of this version
+	 */
+	public static PerfectPlayTable load(Path file) throws IOException {
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if(channel.size() != HEADER + TicTacToe.CODES)
+				throw new IllegalArgumentException("not a perfect play table: "+file);
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if(buffer.getInt(0) != MAGIC || buffer.getInt(8) != TicTacToe.CODES)
+				throw new IllegalArgumentException("not a perfect play table: "+file);
+			if(buffer.getInt(4) != VERSION)
+				throw new IllegalArgumentException("unsupported perfect play table version "+buffer.getInt(4)+": "+file);
+			return new PerfectPlayTable(buffer.position(HEADER).slice());
+		}
+	}
+
+	/**
+	 * solves every position reachable from the empty board and writes the table
+	 * @param file where to write the table, replaced if it exists
+	 * @throws IOException if the file can't be written
+	 */
+	public static void generate(Path file) throws IOException {
+		byte[] table = new byte[TicTacToe.CODES];
+		int[] scores = new int[TicTacToe.CODES];
+		solve(new TicTacToe(), 0, table, scores);
+		try(OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+			DataOutputStream data = new DataOutputStream(out);
+			data.writeInt(MAGIC);
+			data.writeInt(VERSION);
+			data.writeInt(TicTacToe.CODES);
+			data.write(table);
+			data.flush();
+		}
+	}
+
+	/**
+	 * negamax over the positions reachable from t, filling the entries of every one of them
+	 * a score is positive when the player to move wins, bigger for faster wins, 0 for a draw
+	 * @param t the position, played on and restored
+	 * @param plies moves played since the empty board
+	 * @param table entries being built
+	 * @param scores score of every solved code, for the positions already in the table
+	 * @return score of t for the player to move
+	 */
+	private static int solve(TicTacToe t, int plies, byte[] table, int[] scores) {
+		int code = t.getCode();
+		if(table[code] != 0)
+			return scores[code];
+
+		int score;
+		int best = NO_MOVE;
+		if(t.winCheck('X') || t.winCheck('O'))
+			score = plies - (TicTacToe.SIZE + 1);
+		else if(t.drawCheck())
+			score = 0;
+		else {
+			score = Integer.MIN_VALUE;
+			int[] moves = new int[TicTacToe.SIZE];
+			int count = t.getEmptyPositions(moves);
+			for(int i = 0; i < count; i++) {
+				t.play(moves[i]);
+				int value = -solve(t, plies + 1, table, scores);
+				t.undo(moves[i]);
+				if(value > score) {
+					score = value;
+					best = moves[i];
+				}
+			}
+		}
+
+		char toMove = t.getTurn();
+		int result = score == 0 ? DRAW : ((score > 0) == (toMove == 'X') ? X_WINS : O_WINS);
+		table[code] = (byte) (result << 4 | best);
+		scores[code] = score;
+		return score;
+	}
+
+	/**
+	 * @param t a TicTacToe position
+	 * @return the entry of the position
+	 */
+	private int entry(TicTacToe t) {
+		return this.entries.get(t.getCode()) & 0xFF;
+	}
+
+	/**
+	 * looks up the best move of a position
+	 * @param t a TicTacToe position
+	 * @return the best cell for the player to move or -1 if the game is over or the position isn't legal
+	 */
+	public int bestMove(TicTacToe t) {
+		int e = entry(t);
+		if(e >> 4 == ILLEGAL || (e & NO_MOVE) == NO_MOVE)
+			return -1;
+		return e & NO_MOVE;
+	}
+
+	/**
+	 * looks up the result of a position under perfect play
+	 * @param t a TicTacToe position
+	 * @return 'X' or 'O' for the winner, '-' for a draw or '?' if the position isn't legal
+	 */
+	public char result(TicTacToe t) {
+		switch(entry(t) >> 4) {
+			case X_WINS: return 'X';
+			case O_WINS: return 'O';
+			case DRAW: return '-';
+			default: return '?';
+		}
+	}
+
+	/**
+	 * usage: PerfectPlayTable output
+	 * @param args the file to write the table to
+	 * @throws IOException if the file can't be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if(args.length < 1) {
+			System.err.println("usage: PerfectPlayTable output");
+			System.exit(2);
+		}
+		generate(Paths.get(args[0]));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package mcts;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PerfectPlayTableTest {
+
+	private static PerfectPlayTable table;
+
+	@BeforeClass
+	public static void generate() throws IOException {
+		Path file = Files.createTempFile("perfect-play", ".bin");
+		file.toFile().deleteOnExit();
+		PerfectPlayTable.generate(file);
+		table = PerfectPlayTable.load(file);
+	}
+
+	@Test
+	public void testEmptyBoardIsADraw(){
+		TicTacToe t = new TicTacToe();
+		assertEquals('-', table.result(t));
+		assertTrue(table.bestMove(t) >= 0);
+	}
+
+	@Test
+	public void testTakesTheWin(){
+		TicTacToe t = new TicTacToe("XX-\nOO-\n---");
+		assertEquals('X', table.result(t));
+		assertEquals(2, table.bestMove(t));
+	}
+
+	@Test
+	public void testBlocks(){
+		TicTacToe t = new TicTacToe("XOX\n-O-\n---");
+		assertEquals(7, table.bestMove(t));
+	}
+
+	@Test
+	public void testGameOver(){
+		TicTacToe t = new TicTacToe("XXX\nOO-\n---");
+		assertEquals('X', table.result(t));
+		assertEquals(-1, table.bestMove(t));
+	}
+
+	@Test
+	public void testIllegalPosition(){
+		TicTacToe t = new TicTacToe("XXX\n---\n---");
+		assertEquals('?', table.result(t));
+		assertEquals(-1, table.bestMove(t));
+	}
+
+	@Test
+	public void testPerfectPlayDraws(){
+		TicTacToe t = new TicTacToe();
+		while(!t.gameOver())
+			t.play(table.bestMove(t));
+		assertTrue(t.drawCheck());
+	}
+
+	@Test
+	public void testMCTSUsesTheTable(){
+		MCTS m = new MCTS(1750);
+		m.setPerfectPlay(table);
+		TicTacToe t = new TicTacToe("XOX\n-O-\n---");
+		SearchResult result = m.findNextMove(t, 'X', 1750);
+		assertEquals(0, result.getSimulations());
+		assertEquals(7, ((TicTacToe) result.getMove()).getLastPlayed());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testLoadRejectsOtherFiles() throws IOException {
+		Path file = Files.createTempFile("not-a-table", ".bin");
+		file.toFile().deleteOnExit();
+		Files.write(file, new byte[] { 1, 2, 3 });
+		PerfectPlayTable.load(file);
+	}
+}
\ No newline at end of file
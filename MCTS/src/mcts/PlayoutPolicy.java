@@ -0,0 +1,20 @@
+package mcts;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Chooses the moves of the playouts of MCTS (see MCTS.setPlayoutPolicy)
+ * a policy is shared by every thread of a search, so it must not keep state between calls
+ */
+public interface PlayoutPolicy {
+
+	/**
+	 * picks the next move of a playout for the player whose turn it is
+	 * @param board the board of the playout, must be left untouched
+	 * @param moves buffer with the legal moves of the board, as listed by Ilayout.getMoves
+	 * @param count amount of moves in the buffer, at least 1
+	 * @param random stream of random numbers of the thread running the playout
+	 * @return the move to play, one of the moves
+	 */
+	int chooseMove(Ilayout board, int[] moves, int count, RandomGenerator random);
+}
\ No newline at end of file
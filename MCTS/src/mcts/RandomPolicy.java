@@ -0,0 +1,17 @@
+package mcts;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Playout policy that plays uniformly random moves, the default one
+ */
+public class RandomPolicy implements PlayoutPolicy {
+
+	/**
+	 * @return one of the moves picked uniformly at random
+	 */
+	@Override
+	public int chooseMove(Ilayout board, int[] moves, int count, RandomGenerator random) {
+		return moves[random.nextInt(count)];
+	}
+}
\ No newline at end of file
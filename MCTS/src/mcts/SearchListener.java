@@ -0,0 +1,23 @@
+package mcts;
+
+/**
+ * Callback notified by MCTS around every search, on the thread that called findNextMove
+ */
+public interface SearchListener {
+
+	/**
+	 * called before the search starts
+	 * @param layout the game config being searched
+	 * @param player char representing the player that is about to play
+	 */
+	default void searchStarted(Ilayout layout, char player) {
+	}
+
+	/**
+	 * called once the move was chosen
+	 * @param layout the game config that was searched
+	 * @param player char representing the player that is about to play
+	 * @param result the chosen move along with the statistics of the search
+	 */
+	void searchFinished(Ilayout layout, char player, SearchResult result);
+}
\ No newline at end of file
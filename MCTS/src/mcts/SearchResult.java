@@ -0,0 +1,107 @@
+package mcts;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a search of MCTS: the chosen move and how much work was done to find it
+ */
+public class SearchResult {
+
+	/**
+	 * the game config after the chosen move
+	 */
+	private final Ilayout move;
+
+	/**
+	 * amount of simulations that were run
+	 */
+	private final int simulations;
+
+	/**
+	 * time spent in the search
+	 */
+	private final Duration elapsed;
+
+	/**
+	 * size of the tree and time spent in each phase
+	 */
+	private final SearchStats stats;
+
+	/**
+	 * statistics of every child of the root, empty unless the search was asked to keep them
+	 */
+	private final List<MoveStats> children;
+
+	/**
+	 * constructor that sets every attribute
+	 * @param move the game config after the chosen move
+	 * @param simulations amount of simulations that were run
+	 * @param elapsed time spent in the search
+	 * @param stats size of the tree and time spent in each phase
+	 * @param children statistics of every child of the root
+	 */
+	public SearchResult(Ilayout move, int simulations, Duration elapsed, SearchStats stats, List<MoveStats> children) {
+		this.move = move;
+		this.simulations = simulations;
+		this.elapsed = elapsed;
+		this.stats = stats;
+		this.children = children;
+	}
+
+	/**
+	 * getter for the move
+	 * @return the game config after the chosen move
+	 */
+	public Ilayout getMove() {
+		return move;
+	}
+
+	/**
+	 * getter for the simulations
+	 * @return amount of simulations that were run
+	 */
+	public int getSimulations() {
+		return simulations;
+	}
+
+	/**
+	 * getter for the elapsed time
+	 * @return time spent in the search
+	 */
+	public Duration getElapsed() {
+		return elapsed;
+	}
+
+	/**
+	 * getter for the stats
+	 * @return size of the tree and time spent in each phase
+	 */
+	public SearchStats getStats() {
+		return stats;
+	}
+
+	/**
+	 * getter for the children
+	 * @return statistics of every child of the root, empty unless MCTS.setRootStatistics was on
+	 */
+	public List<MoveStats> getChildren() {
+		return children;
+	}
+
+	/**
+	 * @return simulations run per second of search
+	 */
+	public double getSimulationsPerSecond() {
+		long nanos = elapsed.toNanos();
+		return nanos == 0 ? 0 : simulations * 1e9 / nanos;
+	}
+
+	/**
+	 * @return the move followed by the simulations and the time they took
+	 */
+	@Override
+	public String toString() {
+		return move.toString()+simulations+" simulations in "+elapsed.toMillis()+"ms";
+	}
+}
\ No newline at end of file
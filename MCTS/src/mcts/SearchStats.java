@@ -0,0 +1,131 @@
+package mcts;
+
+import java.time.Duration;
+
+/**
+ * Statistics of a single search of MCTS, summed over every thread that took part in it
+ * the phase times are only measured when profiling is on, otherwise they are zero
+ */
+public class SearchStats {
+
+	/**
+	 * amount of nodes added to the tree by the search
+	 */
+	private final int nodes;
+
+	/**
+	 * amount of nodes evicted from the tree by the search to stay within the node budget
+	 */
+	private final int evictedNodes;
+
+	/**
+	 * deepest state reached by the selection and expansion phases, the root being at depth 0
+	 */
+	private final int maxDepth;
+
+	/**
+	 * time spent in each of the four phases, in nanoseconds
+	 */
+	private final long selectionNanos;
+	private final long expansionNanos;
+	private final long simulationNanos;
+	private final long backPropagationNanos;
+
+	/**
+	 * constructor that sets every attribute
+	 * @param nodes amount of nodes added to the tree
+	 * @param maxDepth deepest state reached
+	 * @param selectionNanos time spent in selection
+	 * @param expansionNanos time spent in expansion
+	 * @param simulationNanos time spent in the playouts
+	 * @param backPropagationNanos time spent in backpropagation
+	 */
+	public SearchStats(int nodes, int maxDepth, long selectionNanos, long expansionNanos, long simulationNanos, long backPropagationNanos) {
+		this(nodes, 0, maxDepth, selectionNanos, expansionNanos, simulationNanos, backPropagationNanos);
+	}
+
+	/**
+	 * constructor that sets every attribute
+	 * @param nodes amount of nodes added to the tree
+	 * @param evictedNodes amount of nodes evicted from the tree
+	 * @param maxDepth deepest state reached
+	 * @param selectionNanos time spent in selection
+	 * @param expansionNanos time spent in expansion
+	 * @param simulationNanos time spent in the playouts
+	 * @param backPropagationNanos time spent in backpropagation
+	 */
+	public SearchStats(int nodes, int evictedNodes, int maxDepth, long selectionNanos, long expansionNanos, long simulationNanos, long backPropagationNanos) {
+		this.nodes = nodes;
+		this.evictedNodes = evictedNodes;
+		this.maxDepth = maxDepth;
+		this.selectionNanos = selectionNanos;
+		this.expansionNanos = expansionNanos;
+		this.simulationNanos = simulationNanos;
+		this.backPropagationNanos = backPropagationNanos;
+	}
+
+	/**
+	 * getter for the nodes
+	 * @return amount of nodes added to the tree by the search
+	 */
+	public int getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * getter for the evicted nodes
+	 * @return amount of nodes evicted from the tree by the search to stay within the node budget
+	 */
+	public int getEvictedNodes() {
+		return evictedNodes;
+	}
+
+	/**
+	 * getter for the max depth
+	 * @return deepest state reached, the root being at depth 0
+	 */
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * getter for the selection time
+	 * @return time spent in selection, zero unless profiling was on
+	 */
+	public Duration getSelectionTime() {
+		return Duration.ofNanos(selectionNanos);
+	}
+
+	/**
+	 * getter for the expansion time
+	 * @return time spent in expansion, zero unless profiling was on
+	 */
+	public Duration getExpansionTime() {
+		return Duration.ofNanos(expansionNanos);
+	}
+
+	/**
+	 * getter for the simulation time
+	 * @return time spent in the playouts, zero unless profiling was on
+	 */
+	public Duration getSimulationTime() {
+		return Duration.ofNanos(simulationNanos);
+	}
+
+	/**
+	 * getter for the backpropagation time
+	 * @return time spent in backpropagation, zero unless profiling was on
+	 */
+	public Duration getBackPropagationTime() {
+		return Duration.ofNanos(backPropagationNanos);
+	}
+
+	/**
+	 * @return the size and depth of the tree followed by the time of each phase in ms
+	 */
+	@Override
+	public String toString() {
+		return nodes+" nodes, "+evictedNodes+" evicted, depth "+maxDepth+", selection "+selectionNanos / 1000000+"ms, expansion "+expansionNanos / 1000000
+				+"ms, simulation "+simulationNanos / 1000000+"ms, backpropagation "+backPropagationNanos / 1000000+"ms";
+	}
+}
\ No newline at end of file
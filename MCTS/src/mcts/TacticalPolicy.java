@@ -0,0 +1,26 @@
+package mcts;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Playout policy that takes an immediate win, otherwise blocks an immediate loss, otherwise plays at random
+ * the winning moves come from Ilayout.findWinningMove: TicTacToe checks its precomputed line masks, MNKGame
+ * the lines through the last stone of each player and ConnectFour shifts its bitboards, none of them playing a move;
+ * other games play and take back each move by default, which finds their wins but not the threats to block
+ */
+public class TacticalPolicy implements PlayoutPolicy {
+
+	/**
+	 * @return a winning move, else a move the opponent would win with, else one of the moves picked uniformly at random
+	 */
+	@Override
+	public int chooseMove(Ilayout board, int[] moves, int count, RandomGenerator random) {
+		char player = board.getTurn();
+		int move = board.findWinningMove(player);
+		if(move < 0)
+			move = board.findWinningMove(board.getOpponent(player));
+		if(move >= 0)
+			return move;
+		return moves[random.nextInt(count)];
+	}
+}
\ No newline at end of file
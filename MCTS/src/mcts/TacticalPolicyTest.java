@@ -0,0 +1,107 @@
+package mcts;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class TacticalPolicyTest {
+	@Test
+	public void testWinsFirst(){
+		TicTacToe ttt = new TicTacToe("XX-\nOO-\n---");	// X to move, both can win
+		int[] moves = new int[TicTacToe.SIZE];
+		int count = ttt.getEmptyPositions(moves);
+		assertEquals(2, new TacticalPolicy().chooseMove(ttt, moves, count, new SplittableRandom(1)));
+	}
+
+	@Test
+	public void testBlocks(){
+		TicTacToe ttt = new TicTacToe("X--\nOO-\nX--");	// X to move, O threatens 5
+		int[] moves = new int[TicTacToe.SIZE];
+		int count = ttt.getEmptyPositions(moves);
+		assertEquals(5, new TacticalPolicy().chooseMove(ttt, moves, count, new SplittableRandom(1)));
+	}
+
+	@Test
+	public void testBlocksOnMNKGame(){
+		MNKGame game = new MNKGame(7, 7, 4);
+		game.play(0, 0);	// X
+		game.play(3, 1);	// O
+		game.play(6, 6);	// X
+		game.play(3, 2);	// O
+		game.play(0, 6);	// X
+		game.play(3, 3);	// O threatens 3,0 and 3,4
+		int[] moves = new int[49];
+		int count = game.getEmptyPositions(moves);
+		int cell = new TacticalPolicy().chooseMove(game, moves, count, new SplittableRandom(1));
+		assertTrue(cell == 3 || cell == 4*7 + 3);
+	}
+
+	@Test
+	public void testBlocksOnConnectFour(){
+		ConnectFour game = new ConnectFour("-------\n-------\n-------\n-------\n---X---\n-OOOXX-\n");	// X to move, O threatens 0
+		int[] moves = new int[ConnectFour.WIDTH];
+		int count = game.getMoves(moves);
+		assertEquals(0, new TacticalPolicy().chooseMove(game, moves, count, new SplittableRandom(1)));
+	}
+
+	@Test
+	public void testBlocksOnParsedMNKGame(){
+		MNKGame game = new MNKGame("X-----\n-OOO--\n------\nXX----\n", 4);	// X to move, the last stones aren't known
+		assertEquals(-1, game.getLastPlayed('O'));
+		int[] moves = new int[game.getMaxMoves()];
+		int count = game.getMoves(moves);
+		int cell = new TacticalPolicy().chooseMove(game, moves, count, new SplittableRandom(1));
+		assertTrue(cell == 6 || cell == 6 + 4);
+	}
+
+	/**
+	 * TicTacToe seen only through the methods Ilayout requires, so findWinningMove is the default one
+	 */
+	private static class PlainGame implements Ilayout {
+		private final TicTacToe t;
+
+		PlainGame(TicTacToe t){
+			this.t = t;
+		}
+
+		public boolean gameOver(){ return t.gameOver(); }
+		public int getWins(char player){ return t.getWins(player); }
+		public int getVisits(){ return t.getVisits(); }
+		public boolean isValidPlayer(char player){ return t.isValidPlayer(player); }
+		public int getMaxMoves(){ return t.getMaxMoves(); }
+		public int getMoves(int[] moves){ return t.getMoves(moves); }
+		public void play(int move){ t.play(move); }
+		public void undo(int move){ t.undo(move); }
+		public char getTurn(){ return t.getTurn(); }
+		public char getResult(){ return t.getResult(); }
+		public int getLastPlayed(){ return t.getLastPlayed(); }
+		public long getHash(){ return t.getHash(); }
+		public Ilayout copy(){ return new PlainGame((TicTacToe) t.copy()); }
+		public boolean canCopyFrom(Ilayout other){ return other instanceof PlainGame; }
+		public void copyFrom(Ilayout other){ t.copyFrom(((PlainGame) other).t); }
+	}
+
+	@Test
+	public void testWinsOnOtherGames(){
+		PlainGame game = new PlainGame(new TicTacToe("X--\nOO-\nX--"));	// X to move, O threatens 5
+		assertEquals(-1, game.findWinningMove('O'));	// not O's turn, can't be found by playing
+		assertEquals(-1, game.findWinningMove('X'));
+		game = new PlainGame(new TicTacToe("X-X\nOO-\n---"));	// X to move, both can win
+		assertEquals(1, game.findWinningMove('X'));
+		assertEquals(new TicTacToe("X-X\nOO-\n---"), game.t);	// left untouched
+		int[] moves = new int[TicTacToe.SIZE];
+		int count = game.getMoves(moves);
+		assertEquals(1, new TacticalPolicy().chooseMove(game, moves, count, new SplittableRandom(1)));
+	}
+
+	@Test
+	public void testRandomOtherwise(){
+		TicTacToe ttt = new TicTacToe();
+		int[] moves = new int[TicTacToe.SIZE];
+		int count = ttt.getEmptyPositions(moves);
+		int a = new TacticalPolicy().chooseMove(ttt, moves, count, new SplittableRandom(7));
+		int b = new RandomPolicy().chooseMove(ttt, moves, count, new SplittableRandom(7));
+		assertEquals(b, a);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,616 @@
+package mcts;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Tic-Tac-Toe game
+ * dim 3*3
+ * ASSUME p1 ('X') starts first
+ * the board is kept as two bitmasks (one per player), bit i being the cell i = y*dim + x
+ */
+
+public class TicTacToe implements Ilayout, Cloneable {
+
+	/**
+	 * Dimension of the board (for TTT is always 3)
+	 */
+	private static final int dim = 3;
+
+	/**
+	 * amount of cells in the board, also the most moves a game can have
+	 */
+	static final int SIZE = dim*dim;
+
+	/**
+	 * mask with the dim*dim bits of the board set
+	 */
+	private static final int FULL_BOARD = (1 << (dim*dim)) - 1;
+
+	/**
+	 * every line (rows, columns and both diagonals) that wins the game, precomputed as a mask
+	 */
+	private static final int[] WIN_MASKS = winMasks();
+
+	/**
+	 * for each cell, the winning lines that go through it (the only ones a move in that cell can complete)
+	 */
+	private static final int[][] LINES_THROUGH = linesThrough();
+
+	/**
+	 * random keys of the zobrist hash, one per player and cell (fixed seed so hashes are the same on every run)
+	 */
+	private static final long[][] ZOBRIST = zobristKeys();
+
+	/**
+	 * amount of codes returned by getCode, 3^(dim*dim)
+	 */
+	static final int CODES = codes();
+
+	/**
+	 * for every mask of the board, the sum of 3^i over its set bits i, used by getCode
+	 */
+	private static final int[] BASE3 = base3();
+
+	/**
+	 * The board
+	 * p1Board has the bits of the cells occupied by p1, p2Board the ones occupied by p2
+	 */
+	private int p1Board;
+	private int p2Board;
+
+	/**
+	 * zobrist hash of the board, the xor of the keys of every occupied cell, kept up to date by play and undo
+	 */
+	private long hash;
+
+	/**
+	 * which players have a full line, bit 0 for p1 and bit 1 for p2
+	 * updated by play and undo so the end of the game is known without scanning the board
+	 */
+	private int lines;
+
+	/**
+	 * char emptyCell represents the char in the free cells
+	 * char p1 is the player with the 'X' cell here we always assume p1 starts first
+	 * char p2 is the player with the 'O' cell
+	 */
+	private static final char emptyCell = '-';
+	private static final char p1 = 'X';
+	private static final char p2 = 'O';
+
+	/**
+	 * holds the cell number in which the last move was done
+	 * exists in [0, dim*dim)
+	 */
+	public int lastPlayed;
+	/**
+	 * default constructor which starts a game from the begining aka with an empty board
+	 */
+	TicTacToe(){
+		this.lastPlayed = 0;
+	}
+
+	/**
+	 * Constructor that accepts a string as a board state (mostly for testing)
+	 * @param str - board config in string (eg.: "X-O\nOXO\nXO-")
+	 * @throws IllegalArgumentException - if the parameter doesn't fit the example above
+	 */
+	TicTacToe(String str) throws IllegalArgumentException {
+		String[] lines = str.split("\n");
+		if (lines.length != dim)
+			throw new IllegalArgumentException("wrong size of argument (rows): "+lines.length);
+		for(int y = 0; y < lines.length; y++){
+			if (lines[y].length() != dim)
+				throw new IllegalArgumentException("size of argument (columns): "+lines[y].length());
+			for(int x = 0; x < lines[y].length(); x++){
+				if(!isValidCharacter(lines[y].charAt(x)))
+					throw new IllegalArgumentException("Invalid character in argument: "+lines[y].charAt(x));
+				if(isValidPlayer(lines[y].charAt(x)))
+					play(x, y, lines[y].charAt(x));
+			}
+		}
+		this.lastPlayed = 0;
+	}
+
+	/**
+	 * builds the masks of all the winning lines of the board
+	 * @return array with a mask for each row, column and diagonal
+	 */
+	private static int[] winMasks(){
+		int[] masks = new int[2*dim + 2];
+		for(int i = 0; i < dim; i++){
+			for(int j = 0; j < dim; j++){
+				masks[i] |= 1 << (i*dim + j);			//row i
+				masks[dim + i] |= 1 << (j*dim + i);		//column i
+			}
+			masks[2*dim] |= 1 << (i*dim + i);				//diagonal from top-left to bot-right
+			masks[2*dim + 1] |= 1 << (i*dim + dim-1-i);	//diagonal from top-right to bot-left
+		}
+		return masks;
+	}
+
+	/**
+	 * @return 3^(dim*dim)
+	 */
+	private static int codes(){
+		int codes = 1;
+		for(int i = 0; i < dim*dim; i++)
+			codes *= 3;
+		return codes;
+	}
+
+	/**
+	 * reads every board mask as a base 3 number with digits 0 and 1
+	 * @return array with the value of each mask
+	 */
+	private static int[] base3(){
+		int[] result = new int[FULL_BOARD + 1];
+		for(int mask = 1; mask <= FULL_BOARD; mask++){
+			int i = Integer.numberOfTrailingZeros(mask);
+			int power = 1;
+			for(int j = 0; j < i; j++)
+				power *= 3;
+			result[mask] = result[mask & (mask - 1)] + power;
+		}
+		return result;
+	}
+
+	/**
+	 * groups the winning lines by the cells they go through
+	 * @return array with the masks of the lines through each cell
+	 */
+	private static int[][] linesThrough(){
+		int[][] result = new int[dim*dim][];
+		for(int i = 0; i < dim*dim; i++){
+			int count = 0;
+			for(int mask : WIN_MASKS)
+				if((mask & (1 << i)) != 0)
+					count++;
+			result[i] = new int[count];
+			count = 0;
+			for(int mask : WIN_MASKS)
+				if((mask & (1 << i)) != 0)
+					result[i][count++] = mask;
+		}
+		return result;
+	}
+
+	/**
+	 * draws the zobrist keys
+	 * @return a table with a key for each player (0 for p1 and 1 for p2) and cell
+	 */
+	private static long[][] zobristKeys(){
+		SplittableRandom random = new SplittableRandom(0x7AC7AC7AL);
+		long[][] keys = new long[2][dim*dim];
+		for(int i = 0; i < dim*dim; i++){
+			keys[0][i] = random.nextLong();
+			keys[1][i] = random.nextLong();
+		}
+		return keys;
+	}
+
+	/**
+	 * checks if the coordinate x is within the board (literally says wether x is > 0 and < dim)
+	 * @param x coordinate to eval
+	 * @return true if x exists in [0, dim), false otherwise
+	 */
+	public boolean inBounds(int x){
+		return x >= 0 && x < dim;
+	}
+
+	/**
+	 * checks if the char is a player (mostly used to see if the cell is already ocupied by a player)
+	 * @param c - char to eval
+	 * @return true if c is 'O' or 'X'
+	 */
+	public boolean isValidPlayer(char c){
+		return c == p1 || c == p2;
+	}
+
+	/**
+	 * checks if char is a valid character in the context of this game
+	 * @param c - char to eval
+	 * @return true if c is 'O', 'X', or '-'
+	 */
+	public boolean isValidCharacter(char c){
+		return isValidPlayer(c) || c == emptyCell;
+	}
+
+	/**
+	 * gets the char in the board at x and y
+	 * @param x int x coordinate
+	 * @param y int y coordinate
+	 * @return char in the x,y on the board
+	 * @throws IllegalArgumentException if x or y aren't in bounds aka [0, dim]
+	 */
+	public char get(int x, int y) throws IllegalArgumentException {
+		if(!inBounds(x) || !inBounds(y))
+			throw new IllegalArgumentException(x+" or "+y+" are not in bounds");
+		return cell(y*dim + x);
+	}
+
+	/**
+	 * gets the char in the nth space in the board
+	 * @param i space on the board i.e.: i=3 is the top-right space in a 3x3 board
+	 * @return the output of the other get function with the arguments: x = i%dim and y = i/dim
+	 * @throws IllegalArgumentException if doesn't belong in [0, dim*dim)
+	 */
+	public char get(int i) throws IllegalArgumentException{
+		return get(i%dim, i/dim);
+	}
+
+	/**
+	 * reads the cell i straight from the bitmasks, without bounds checking
+	 * @param i cell in [0, dim*dim)
+	 * @return the char of the player in the cell or emptyCell
+	 */
+	private char cell(int i){
+		int bit = 1 << i;
+		if((p1Board & bit) != 0)
+			return p1;
+		return (p2Board & bit) != 0 ? p2 : emptyCell;
+	}
+
+	/**
+	 * uses the bitmasks to set the char "player" onto the board if it is a valid player and the cell inst occupied by a palyer
+	 * @param x int x coordinate
+	 * @param y int y coordinate
+	 * @param player char representing the player to play this turn
+	 * @throws IllegalArgumentException if char player isn't a valid player or if the cell is occupied by player and if arguments aren't accepted by get(x, y)
+	 */
+	public void play(int x, int y, char player) throws IllegalArgumentException{
+		if(!isValidPlayer(player))
+			throw new IllegalArgumentException("char '"+player+"' isn't a valid player, valid players: "+p1+" and "+p2);
+		if(isValidPlayer(this.get(x, y)))
+			throw new IllegalArgumentException("this cell is already occupied by "+this.get(x, y));
+		this.lastPlayed = y*dim + x;
+		if(player == p1){
+			this.p1Board |= 1 << this.lastPlayed;
+			this.hash ^= ZOBRIST[0][this.lastPlayed];
+			if(completesLine(p1Board, this.lastPlayed))
+				this.lines |= 1;
+		}else{
+			this.p2Board |= 1 << this.lastPlayed;
+			this.hash ^= ZOBRIST[1][this.lastPlayed];
+			if(completesLine(p2Board, this.lastPlayed))
+				this.lines |= 2;
+		}
+	}
+
+	/**
+	 * uses function play(x, y, player) with the player whose turn it is
+	 * @param x int x coordinate
+	 * @param y int y coordinate
+	 * @throws IllegalArgumentException if the arguments aren't accepted by play(x, y, player)
+	 */
+	public void play(int x, int y) throws IllegalArgumentException{
+		this.play(x, y, getTurn());
+	}
+
+	/**
+	 * uses function playTurn(x, y) but instead of x and y it's a single argument that represents a space in the board
+	 * @param i int i is split into: i%dim which represents x and i/dim which represents y in the function playTurn(x, y)
+	 */
+	public void play(int i){
+		this.play(i%dim, i/dim);
+	}
+
+	/**
+	 * takes back the move in the cell i, leaving it empty (the inverse of play(i))
+	 * @param i int cell to clear, exists in [0, dim*dim)
+	 */
+	public void undo(int i){
+		int bit = 1 << i;
+		if((p1Board & bit) != 0)
+			this.hash ^= ZOBRIST[0][i];
+		else if((p2Board & bit) != 0)
+			this.hash ^= ZOBRIST[1][i];
+		this.p1Board &= ~bit;
+		this.p2Board &= ~bit;
+		if(this.lines != 0)
+			this.lines = (hasLine(p1Board) ? 1 : 0) | (hasLine(p2Board) ? 2 : 0);
+	}
+
+	/**
+	 * overwrites this board with the board of other, used to reuse an instance instead of cloning
+	 * @param other TicTacToe whose config will be copied
+	 */
+	public void copyFrom(TicTacToe other){
+		this.p1Board = other.p1Board;
+		this.p2Board = other.p2Board;
+		this.hash = other.hash;
+		this.lines = other.lines;
+		this.lastPlayed = other.lastPlayed;
+	}
+
+	/**
+	 * @param other any layout
+	 * @return true if other is a TicTacToe, the only kind of layout copyFrom accepts
+	 */
+	public boolean canCopyFrom(Ilayout other) {
+		return other instanceof TicTacToe;
+	}
+
+	/**
+	 * same as copyFrom(TicTacToe) for any layout
+	 * @param other TicTacToe whose config will be copied
+	 * @throws IllegalArgumentException if other isn't a TicTacToe
+	 */
+	public void copyFrom(Ilayout other) throws IllegalArgumentException {
+		if(!(other instanceof TicTacToe))
+			throw new IllegalArgumentException("can't copy a "+other.getClass().getSimpleName()+" into a TicTacToe");
+		copyFrom((TicTacToe) other);
+	}
+
+	/**
+	 * gets the turn
+	 * p1 plays whenever both players played the same amount of times (always assumes p1 went first), otherwise it's p2's turn
+	 * @return the player to move
+	 */
+	public char getTurn(){
+		return Integer.bitCount(p1Board) == Integer.bitCount(p2Board) ? p1 : p2;
+	}
+
+	/**
+	 * gets the cell that was last played
+	 * @return the last turn of this config
+	 */
+	public int getLastPlayed() {
+		return lastPlayed;
+	}
+
+	/**
+	 * spits out a list with all derivable configs from the current config
+	 * @return list of all possible layouts from this config
+	 */
+	public List<Ilayout> children(){
+		List<Ilayout> result = new LinkedList<>();
+		int empty = ~(p1Board | p2Board) & FULL_BOARD;
+		while(empty != 0){
+			int i = Integer.numberOfTrailingZeros(empty);
+			empty &= empty - 1;
+			TicTacToe child = (TicTacToe) this.clone();
+			child.play(i);
+			result.add(child);
+		}
+		return result;
+	}
+
+	/**
+	 * checks if game is over and if argument "player" won the game
+	 * @param player char that represents the player
+	 * @return true if player won aka any line with size "dim" is filled with the player's symbol ('O' or 'X'), false otherwise
+	 * @throws IllegalArgumentException if char "player" isn't a valid player aka isn't a 'O' or 'X'
+	 */
+	public boolean winCheck(char player) throws IllegalArgumentException{
+		if(!isValidPlayer(player))
+			throw new IllegalArgumentException("char "+player+" isn't a valid player, valid players: "+p1+" and "+p2);
+		return (lines & (player == p1 ? 1 : 2)) != 0;
+	}
+
+	/**
+	 * finds the empty cells that would give player a full line, checking every precomputed line mask
+	 * @param player char that represents the player
+	 * @return mask with the bits of those cells set, 0 if there are none
+	 */
+	public int getWinningCells(char player){
+		int own = player == p1 ? p1Board : p2Board;
+		int empty = ~(p1Board | p2Board) & FULL_BOARD;
+		int cells = 0;
+		for(int mask : WIN_MASKS){
+			int missing = mask & ~own;
+			if((missing & (missing - 1)) == 0 && (missing & empty) != 0)
+				cells |= missing;
+		}
+		return cells;
+	}
+
+	/**
+	 * @param player char that represents the player
+	 * @return the lowest empty cell that gives player a full line, -1 if there is none
+	 */
+	public int findWinningMove(char player){
+		int cells = getWinningCells(player);
+		return cells == 0 ? -1 : Integer.numberOfTrailingZeros(cells);
+	}
+
+	/**
+	 * checks only the lines through the cell that was just played
+	 * @param board bitmask of the cells of the player that played
+	 * @param i cell that was played
+	 * @return true if any line through i is fully set in board
+	 */
+	private static boolean completesLine(int board, int i){
+		for(int mask : LINES_THROUGH[i])
+			if((board & mask) == mask)
+				return true;
+		return false;
+	}
+
+	/**
+	 * checks the bitmask of a player against every winning line
+	 * @param board bitmask of the cells of a player
+	 * @return true if any of the winning lines is fully set in board
+	 */
+	private static boolean hasLine(int board){
+		for(int mask : WIN_MASKS)
+			if((board & mask) == mask)
+				return true;
+		return false;
+	}
+
+	/**
+	 * checks if the game is over by draw
+	 * @return true if it's a draw aka gameboard has no cells with the "emptyCell" char, false otherwise
+	 */
+	public boolean drawCheck(){
+		return (p1Board | p2Board) == FULL_BOARD && lines == 0;
+	}
+
+	/**
+	 * same as drawCheck but counts the moves of each player, kept from when the moves were counted in a map
+	 * @return true if the amount of times p1 and p2 played is equals to the amount of spaces in the board and if there are no winners, all of this means that it is a draw, else returns false
+	 */
+	public boolean drawCheckWithMap(){
+		return Integer.bitCount(p1Board) + Integer.bitCount(p2Board) == dim*dim && lines == 0;
+	}
+
+	//TODO TESTS
+	/**
+	 * @return true if game is over and false otherwise
+	 */
+	public boolean gameOver(){
+		return lines != 0 || (p1Board | p2Board) == FULL_BOARD;
+	}
+
+	/**
+	 * @return the player with a full line, '-' for a draw or ONGOING if the game isn't over
+	 */
+	public char getResult(){
+		if((lines & 1) != 0)
+			return p1;
+		if((lines & 2) != 0)
+			return p2;
+		return (p1Board | p2Board) == FULL_BOARD ? DRAW : ONGOING;
+	}
+
+	/**
+	 * @return amount of visits
+	 */
+	public int getVisits(){
+		return 1;
+	}
+
+	//TODO TESTS
+	/**
+	 * @param player char representing the player whose wins will be returned
+	 * @return amount of "player"'s wins
+	 */
+	public int getWins(char player){
+		return winCheck(player) ? 1 : 0;
+	}
+
+	public List<Integer> getEmptyPositions() {
+		List<Integer> emptyPositions = new ArrayList<>();
+		for(int i = 0; i < dim*dim; i++)
+			if(cell(i) == emptyCell)
+				emptyPositions.add(i);
+
+		return emptyPositions;
+	}
+
+	/**
+	 * same as getEmptyPositions() but writes the cells into a given buffer instead of allocating a list
+	 * @param positions buffer with room for at least dim*dim cells
+	 * @return amount of empty cells written into positions
+	 */
+	public int getEmptyPositions(int[] positions) {
+		int count = 0;
+		int empty = ~(p1Board | p2Board) & FULL_BOARD;
+		while(empty != 0){
+			positions[count++] = Integer.numberOfTrailingZeros(empty);
+			empty &= empty - 1;
+		}
+		return count;
+	}
+
+	/**
+	 * @return amount of cells, the most moves a config can have
+	 */
+	public int getMaxMoves() {
+		return SIZE;
+	}
+
+	/**
+	 * the moves of a TicTacToe are the empty cells, as long as no one has a full line
+	 * @param moves buffer with room for at least dim*dim cells
+	 * @return amount of moves written into moves
+	 */
+	public int getMoves(int[] moves) {
+		return lines != 0 ? 0 : getEmptyPositions(moves);
+	}
+
+	/**
+	 * @param other object to eval
+	 * @return true if other is a TicTacToe with the same board, false otherwise
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if (other == this) return true;
+		if (!(other instanceof TicTacToe that)) return false;
+		return this.p1Board == that.p1Board && this.p2Board == that.p2Board;
+	}
+
+	/**
+	 * gives the board a dense code, the board read as a base 3 number with cell i as digit i
+	 * (0 for an empty cell, 1 for p1 and 2 for p2)
+	 * @return a code in [0, CODES), equal boards always have equal codes and different boards different ones
+	 */
+	public int getCode(){
+		return BASE3[p1Board] + 2*BASE3[p2Board];
+	}
+
+	/**
+	 * getter for the zobrist hash
+	 * @return the 64 bit hash of the board, equal boards always have equal hashes
+	 */
+	public long getHash(){
+		return hash;
+	}
+
+	/**
+	 * @return the zobrist hash folded into an int, consistent with equals
+	 */
+	@Override
+	public int hashCode() {
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	/**
+	 * toString method
+	 * @return a string representing the config of the current game
+	 */
+	@Override
+	public String toString(){
+		StringBuilder result = new StringBuilder(dim*(dim+1));
+		for(int y = 0; y<dim; y++){
+			for(int x = 0; x<dim; x++)
+				result.append(cell(y*dim + x));
+			result.append('\n');
+		}
+		return result.toString();
+	}
+
+	/**
+	 * has same functionality as clone method but, instead of using the Cloneable interface,
+	 * uses the constructor with the string argument and the toString method's output (which match perfectly with eachother)
+	 * to create a new instance with the same configuration
+	 * @return a "clone" of this instance aka a new instance with the same variables but with different references
+	 */
+	public TicTacToe stringClone(){
+		return new TicTacToe(this.toString());
+	}
+
+	/**
+	 * clone method
+	 * the board is made of primitives so the shallow copy is already a full copy
+	 * @return a clone of the instance used upon
+	 */
+	public Object clone(){
+		try{
+			return super.clone();
+		}catch(CloneNotSupportedException e){
+			throw new AssertionError(e);			//this line should be unreachable since this object is clonable
+		}
+	}
+
+	/**
+	 * @return a clone of the instance used upon
+	 */
+	public Ilayout copy(){
+		return (Ilayout) clone();
+	}
+}
\ No newline at end of file
@@ -1,3 +1,5 @@
+package mcts;
+
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -161,6 +163,60 @@ public class TicTacToeTest {
 		assertEquals(expectedTurn, ttt.getTurn());
 	}
 	
+	@Test
+	public void testUndo(){
+		TicTacToe ttt = new TicTacToe();
+		ttt.play(4);
+		ttt.play(0);
+		ttt.undo(0);
+		assertEquals('-', ttt.get(0));
+		assertEquals('O', ttt.getTurn());
+		ttt.undo(4);
+		assertEquals(new TicTacToe(), ttt);
+	}
+
+	@Test
+	public void testUndoWinningMove(){
+		String input =	"XX-\n"+
+						"OO-\n"+
+						"---\n";
+		TicTacToe ttt = new TicTacToe(input);
+		ttt.play(2);
+		assertTrue(ttt.winCheck('X'));
+		assertTrue(ttt.gameOver());
+		ttt.undo(2);
+		assertFalse(ttt.winCheck('X'));
+		assertFalse(ttt.gameOver());
+		ttt.play(2, 1, 'O');
+		assertTrue(ttt.winCheck('O'));
+		assertFalse(ttt.drawCheck());
+	}
+
+	@Test
+	public void testCopyFrom(){
+		String input =	"-OO\n"+
+						"OX-\n"+
+						"XX-\n";
+		TicTacToe ttt = new TicTacToe();
+		ttt.copyFrom(new TicTacToe(input));
+		assertEquals(new TicTacToe(input), ttt);
+		assertEquals(input, ttt.toString());
+	}
+
+	@Test
+	public void testGetEmptyPositions(){
+		String input =	"-OO\n"+
+						"OX-\n"+
+						"XX-\n";
+		TicTacToe ttt = new TicTacToe(input);
+		int[] positions = new int[9];
+		assertEquals(3, ttt.getEmptyPositions(positions));
+		assertEquals(0, positions[0]);
+		assertEquals(5, positions[1]);
+		assertEquals(8, positions[2]);
+		assertEquals(ttt.getEmptyPositions().size(), ttt.getEmptyPositions(positions));
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void testPlayExceptions1(){
 		(new TicTacToe()).play(0, 1, '-');
@@ -320,6 +376,29 @@ public class TicTacToeTest {
 		expected = new TicTacToe(input);
 		actual.play(0, 1, 'O');
 		assertTrue(expected.equals(actual));
+		assertFalse(expected.equals("x"));
+		assertFalse(expected.equals(new MNKGame(3, 3, 3)));
+		assertFalse(expected.equals(new ConnectFour()));
+		assertFalse(expected.equals(null));
+	}
+
+	@Test
+	public void testHashCode(){
+		String input =	"-O-\n"+
+						"OX-\n"+
+						"X--\n";
+		TicTacToe expected = new TicTacToe(input);
+		TicTacToe actual = new TicTacToe();
+		actual.play(6);
+		actual.play(3);
+		actual.play(4);
+		actual.play(1);
+		assertEquals(expected.hashCode(), actual.hashCode());
+		assertEquals(expected.getHash(), actual.getHash());
+		actual.play(8);
+		actual.undo(8);
+		assertEquals(expected.getHash(), actual.getHash());
+		assertNotEquals(new TicTacToe().getHash(), actual.getHash());
 	}
 
 	@Test
@@ -367,4 +446,52 @@ public class TicTacToeTest {
 		assertEquals(new TicTacToe(expected0), result.get(0));
 		assertEquals(new TicTacToe(expected1), result.get(1));
 	}
+
+	@Test
+	public void testGetCode(){
+		assertEquals(0, new TicTacToe().getCode());
+		assertEquals(1, new TicTacToe("X--\n---\n---").getCode());
+		assertEquals(2*3 + 1*9, new TicTacToe("-OX\n---\n---").getCode());
+		assertEquals(TicTacToe.CODES - 1, new TicTacToe("OOO\nOOO\nOOO").getCode());
+		TicTacToe a = new TicTacToe("XO-\n---\n--X");
+		TicTacToe b = new TicTacToe();
+		b.play(8);
+		b.play(1);
+		b.play(0);
+		assertEquals(a.getCode(), b.getCode());
+	}
+
+	@Test
+	public void testGetWinningCells(){
+		TicTacToe ttt = new TicTacToe("XX-\nOO-\nX-O");
+		assertEquals(1 << 2, ttt.getWinningCells('X'));
+		assertEquals(1 << 5, ttt.getWinningCells('O'));
+		assertEquals(0, new TicTacToe().getWinningCells('X'));
+		assertEquals(0, new TicTacToe("XOX\n---\n---").getWinningCells('X'));
+		assertEquals((1 << 1) | (1 << 5), new TicTacToe("X-X\n-O-\nO-X").getWinningCells('X'));
+	}
+
+	@Test
+	public void testMoveApi(){
+		Ilayout ttt = new TicTacToe("XX-\nOO-\n---");
+		int[] moves = new int[ttt.getMaxMoves()];
+		assertEquals(TicTacToe.SIZE, moves.length);
+		assertEquals(5, ttt.getMoves(moves));
+		assertEquals(Ilayout.ONGOING, ttt.getResult());
+		Ilayout copy = ttt.copy();
+		copy.play(2);
+		assertEquals('X', copy.getResult());
+		assertEquals(0, copy.getMoves(moves));
+		copy.undo(2);
+		assertEquals(ttt, copy);
+		assertEquals(Ilayout.DRAW, new TicTacToe("XOX\nXOO\nOXX").getResult());
+		ttt.copyFrom(new TicTacToe("OO-\nXX-\nX--"));
+		assertEquals('O', ttt.getTurn());
+		assertEquals('X', ttt.getOpponent(ttt.getTurn()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCopyFromOtherGame(){
+		new TicTacToe().copyFrom(new MNKGame(3, 3, 3));
+	}
 }
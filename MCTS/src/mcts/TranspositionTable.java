@@ -0,0 +1,92 @@
+package mcts;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded table of states indexed by the hash of their layout
+ * lets the search link a position reached through different move orders to a single State,
+ * turning the tree into a DAG where every parent shares the statistics of that position
+ * each hash maps to a bucket of two slots, when both are taken the least visited state is replaced
+ */
+class TranspositionTable {
+
+	/**
+	 * slots of the table, the bucket of a hash is made of the slots i and i^1
+	 */
+	private final AtomicReferenceArray<MCTS.State> slots;
+
+	/**
+	 * mask applied to the hash to find its bucket
+	 */
+	private final int mask;
+
+	/**
+	 * constructor that sets the amount of slots
+	 * @param capacity max amount of states held, rounded up to a power of two
+	 * @throws IllegalArgumentException if capacity is less than 2
+	 */
+	public TranspositionTable(int capacity) throws IllegalArgumentException {
+		if(capacity < 2)
+			throw new IllegalArgumentException("capacity must be at least 2, got "+capacity);
+		int size = Integer.highestOneBit(capacity - 1) << 1;
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * getter for the capacity
+	 * @return amount of slots in the table
+	 */
+	public int capacity() {
+		return slots.length();
+	}
+
+	/**
+	 * folds the 64 bit hash of the layout and spreads its bits so boards that only differ in a few cells fall in different buckets
+	 * @param layout the game config in Ilayout
+	 * @return index of the first slot of the bucket of layout
+	 */
+	private int bucket(Ilayout layout) {
+		long hash = layout.getHash();
+		int h = (int) (hash ^ (hash >>> 32)) * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask & ~1;
+	}
+
+	/**
+	 * looks for a state with the given layout
+	 * @param layout the game config in Ilayout
+	 * @return the state stored for layout or null if there is none
+	 */
+	public MCTS.State get(Ilayout layout) {
+		int i = bucket(layout);
+		MCTS.State s = slots.get(i);
+		if(s != null && s.getLayout().equals(layout))
+			return s;
+		s = slots.get(i + 1);
+		if(s != null && s.getLayout().equals(layout))
+			return s;
+		return null;
+	}
+
+	/**
+	 * stores a state, taking an empty slot of its bucket or replacing the least visited one
+	 * @param state State to store
+	 */
+	public void put(MCTS.State state) {
+		int i = bucket(state.getLayout());
+		MCTS.State first = slots.get(i);
+		MCTS.State second = slots.get(i + 1);
+		if(first == null || (second != null && first.getVisits() <= second.getVisits()))
+			slots.set(i, state);
+		else
+			slots.set(i + 1, state);
+	}
+
+	/**
+	 * empties the table
+	 */
+	public void clear() {
+		for(int i = 0; i < slots.length(); i++)
+			slots.set(i, null);
+	}
+}
\ No newline at end of file
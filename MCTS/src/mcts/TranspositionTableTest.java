@@ -0,0 +1,51 @@
+package mcts;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class TranspositionTableTest {
+
+	private static MCTS.State stateOf(String board, int visits) {
+		MCTS.State state = new MCTS.State(new TicTacToe(board));
+		state.addVisits(visits);
+		return state;
+	}
+
+	@Test
+	public void testGet(){
+		TranspositionTable table = new TranspositionTable(64);
+		MCTS.State state = stateOf("X--\n---\n---", 0);
+		table.put(state);
+		assertSame(state, table.get(new TicTacToe("X--\n---\n---")));		// an equal layout finds it
+		assertNull(table.get(new TicTacToe("-X-\n---\n---")));
+		table.clear();
+		assertNull(table.get(state.getLayout()));
+	}
+
+	@Test
+	public void testReplacesLeastVisited(){
+		TranspositionTable table = new TranspositionTable(2);		// a single bucket, every layout falls in it
+		MCTS.State a = stateOf("X--\n---\n---", 5);
+		MCTS.State b = stateOf("-X-\n---\n---", 1);
+		MCTS.State c = stateOf("--X\n---\n---", 0);
+		table.put(a);
+		table.put(b);
+		assertSame(a, table.get(a.getLayout()));
+		assertSame(b, table.get(b.getLayout()));
+		table.put(c);		// both slots are taken, b has less visits than a
+		assertSame(a, table.get(a.getLayout()));
+		assertNull(table.get(b.getLayout()));
+		assertSame(c, table.get(c.getLayout()));
+		c.addVisits(10);
+		MCTS.State d = stateOf("---\nX--\n---", 0);
+		table.put(d);		// now a is the least visited
+		assertNull(table.get(a.getLayout()));
+		assertSame(c, table.get(c.getLayout()));
+		assertSame(d, table.get(d.getLayout()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCapacityException(){
+		new TranspositionTable(1);
+	}
+}
\ No newline at end of file
@@ -1,3 +1,5 @@
+package mcts;
+
 /**
  * Game tree that holds all States
  */
@@ -5,10 +7,11 @@ public class Tree {
 	MCTS.State root;
 
 	/**
-	 * Default constructor that creates a empty root that is set after tree creation
+	 * Constructor that creates a root for the given game config
+	 * @param layout game config of the root
 	 */
-	public Tree() {
-		root = new MCTS.State();
+	public Tree(Ilayout layout) {
+		root = new MCTS.State(layout);
 	}
 
 	/**
@@ -37,10 +40,11 @@ public class Tree {
 
 	/**
 	 * Adds the child state to the parent state's child array
+	 * safe while other threads are searching the tree
 	 * @param parent
 	 * @param child
 	 */
 	public void addChild(MCTS.State parent, MCTS.State child) {
-		parent.getChildArray().add(child);
+		parent.publishChild(child);
 	}
-}
+}
\ No newline at end of file
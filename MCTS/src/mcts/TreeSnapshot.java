@@ -0,0 +1,218 @@
+package mcts;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary snapshot of a search tree, so a search can be resumed later (see MCTS.setTree)
+ * the file starts with a header: magic, version, the kind of layout, k for m,n,k-games and the board of the root
+ * then come the states in depth first order, each one as: the move played from its father (-1 for the root),
+ * player, visits, win score, proven winner, whether its moves were listed and the amount of children,
+ * which follow right after it
+ * the untried moves aren't stored either, they are the moves of the layout that have no child
+ * the layouts of the states aren't stored, they are rebuilt by playing the move of each state on its father
+ * a state shared by many fathers through the transposition table is written once under each of them
+ * only trees of TicTacToe, MNKGame and ConnectFour layouts can be written
+ */
+public class TreeSnapshot {
+
+	/**
+	 * first bytes of the file, "MCTR"
+	 */
+	private static final int MAGIC = 0x4D435452;
+
+	/**
+	 * version of the format, changed whenever the layout of the records changes
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * kinds of layout
+	 */
+	private static final byte TICTACTOE = 1;
+	private static final byte MNK_GAME = 2;
+	private static final byte CONNECT_FOUR = 3;
+
+	private TreeSnapshot() {
+	}
+
+	/**
+	 * writes a tree to a file
+	 * @param tree the tree to write
+	 * @param file where to write it, replaced if it exists
+	 * @throws IOException if the file can't be written
+	 */
+	public static void write(Tree tree, Path file) throws IOException {
+		try(OutputStream out = Files.newOutputStream(file)) {
+			write(tree, out);
+		}
+	}
+
+	/**
+	 * writes a tree to a stream, one state at a time, the stream is flushed but left open
+	 * @param tree the tree to write
+	 * @param out where to write it
+	 * @throws IOException if the stream can't be written
+	 * @throws IllegalArgumentException if the layouts aren't TicTacToe, MNKGame or ConnectFour
+	 */
+	public static void write(Tree tree, OutputStream out) throws IOException {
+		MCTS.State root = tree.getRoot();
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		Ilayout layout = root.getLayout();
+		if(layout instanceof TicTacToe)
+			data.writeByte(TICTACTOE);
+		else if(layout instanceof MNKGame) {
+			data.writeByte(MNK_GAME);
+			data.writeInt(((MNKGame) layout).getK());
+		}
+		else if(layout instanceof ConnectFour)
+			data.writeByte(CONNECT_FOUR);
+		else
+			throw new IllegalArgumentException("can't write trees of "+layout.getClass().getSimpleName());
+		byte[] board = layout.toString().getBytes(StandardCharsets.UTF_8);
+		data.writeInt(board.length);
+		data.write(board);
+		writeState(data, null, root);
+		data.flush();
+	}
+
+	/**
+	 * writes a state and everything under it
+	 * @param data the stream
+	 * @param father the father of the state in this tree, null for the root
+	 * @param state the state to write
+	 * @throws IOException if the stream can't be written
+	 */
+	private static void writeState(DataOutputStream data, MCTS.State father, MCTS.State state) throws IOException {
+		data.writeInt(father == null ? -1 : moveBetween(father.getLayout(), state.getLayout()));
+		data.writeByte(state.getPlayer());
+		data.writeInt(state.getVisits());
+		data.writeInt(state.getWinScore());
+		data.writeByte(state.getProven());
+		data.writeBoolean(state.hasUntried());
+		List<MCTS.State> children = state.getChildArray();
+		data.writeInt(children.size());
+		for(MCTS.State child : children)
+			writeState(data, state, child);
+	}
+
+	/**
+	 * finds the move played between two layouts, since with transpositions the move of a state
+	 * may come from another father
+	 * @param father the layout of the father
+	 * @param child the layout of the child
+	 * @return the move of the father that leads to the layout of the child
+	 */
+	private static int moveBetween(Ilayout father, Ilayout child) {
+		int[] moves = new int[father.getMaxMoves()];
+		int count = father.getMoves(moves);
+		Ilayout t = father.copy();
+		for(int i = 0; i < count; i++) {
+			t.play(moves[i]);
+			boolean found = t.equals(child);
+			t.undo(moves[i]);
+			if(found)
+				return moves[i];
+		}
+		throw new IllegalArgumentException("child doesn't follow from its father:\n"+father+child);
+	}
+
+	/**
+	 * reads a tree written by write, mapping the file instead of streaming it
+	 * @param file the snapshot
+	 * @return the tree, detached from any search
+	 * @throws IOException if the file can't be read
+	 * @throws IllegalArgumentException if the file isn't a snapshot of this version
+	 */
+	public static Tree read(Path file) throws IOException {
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if(channel.size() > Integer.MAX_VALUE)
+				throw new IllegalArgumentException("tree snapshot too big to map: "+file);
+			ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if(in.remaining() < 8 || in.getInt() != MAGIC)
+				throw new IllegalArgumentException("not a tree snapshot: "+file);
+			int version = in.getInt();
+			if(version != VERSION)
+				throw new IllegalArgumentException("unsupported tree snapshot version "+version+": "+file);
+
+			byte kind = in.get();
+			int k = kind == MNK_GAME ? in.getInt() : 0;
+			byte[] board = new byte[in.getInt()];
+			in.get(board);
+			String str = new String(board, StandardCharsets.UTF_8);
+			Ilayout layout;
+			if(kind == TICTACTOE)
+				layout = new TicTacToe(str);
+			else if(kind == MNK_GAME)
+				layout = new MNKGame(str, k);
+			else if(kind == CONNECT_FOUR)
+				layout = new ConnectFour(str);
+			else
+				throw new IllegalArgumentException("unknown layout in tree snapshot: "+kind);
+			return new Tree(readState(in, null, layout));
+		}
+	}
+
+	/**
+	 * reads a state and everything under it
+	 * @param in the mapped file, at the start of the state
+	 * @param father the father of the state, null for the root
+	 * @param layout the layout of the root, ignored for other states
+	 * @return the state with its children
+	 */
+	private static MCTS.State readState(ByteBuffer in, MCTS.State father, Ilayout layout) {
+		int move = in.getInt();
+		if(father != null)
+			layout = MCTS.childOf(father.getLayout(), move);
+		MCTS.State state = new MCTS.State(layout);
+		state.setFather(father);
+		state.setMove(move);
+		state.setPlayer((char) in.get());
+		state.addVisits(in.getInt());
+		state.addScore(in.getInt());
+		char proven = (char) in.get();
+		boolean listed = in.get() != 0;
+		int children = in.getInt();
+		List<MCTS.State> childArray = new ArrayList<>(children);
+		for(int i = 0; i < children; i++)
+			childArray.add(readState(in, state, null));
+		state.setChildArray(childArray);
+		state.setProven(proven);
+		if(listed)
+			listUntried(state);
+		return state;
+	}
+
+	/**
+	 * sets the untried moves of a loaded state, the moves of its layout that don't have a child
+	 * @param state the state, with all of its children
+	 */
+	private static void listUntried(MCTS.State state) {
+		Ilayout layout = state.getLayout();
+		int[] moves = new int[layout.getMaxMoves()];
+		int count = layout.getMoves(moves);
+		int total = count;
+		for(MCTS.State child : state.getChildArray()) {
+			int move = child.getMove();
+			for(int i = 0; i < count; i++) {
+				if(moves[i] == move) {
+					moves[i] = moves[--count];
+					break;
+				}
+			}
+		}
+		state.setUntriedMoves(moves, count, total);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package mcts;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class TreeSnapshotTest {
+
+	private static Path tempFile() throws IOException {
+		Path file = Files.createTempFile("tree", ".bin");
+		file.toFile().deleteOnExit();
+		return file;
+	}
+
+	private static void assertSameTree(MCTS.State expected, MCTS.State actual) {
+		assertEquals(expected.getLayout(), actual.getLayout());
+		assertEquals(expected.getPlayer(), actual.getPlayer());
+		assertEquals(expected.getVisits(), actual.getVisits());
+		assertEquals(expected.getWinScore(), actual.getWinScore());
+		assertEquals(expected.getProven(), actual.getProven());
+		assertEquals(expected.isFullyExpanded(), actual.isFullyExpanded());
+		List<MCTS.State> children = expected.getChildArray();
+		assertEquals(children.size(), actual.getChildArray().size());
+		for(int i = 0; i < children.size(); i++) {
+			assertSame(actual, actual.getChildArray().get(i).getFather());
+			assertSameTree(children.get(i), actual.getChildArray().get(i));
+		}
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		MCTS m = new MCTS(2000);
+		m.setReuseTree(true);
+		m.findNextMove(new TicTacToe(), 'X');
+		Path file = tempFile();
+		TreeSnapshot.write(m.getTree(), file);
+		assertSameTree(m.getTree().getRoot(), TreeSnapshot.read(file).getRoot());
+	}
+
+	@Test
+	public void testRoundTripMNKGame() throws IOException {
+		MCTS m = new MCTS(2000);
+		m.setReuseTree(true);
+		m.findNextMove(new MNKGame(5, 4, 3), 'X');
+		Path file = tempFile();
+		TreeSnapshot.write(m.getTree(), file);
+		assertSameTree(m.getTree().getRoot(), TreeSnapshot.read(file).getRoot());
+	}
+
+	@Test
+	public void testRoundTripConnectFour() throws IOException {
+		MCTS m = new MCTS(2000);
+		m.setReuseTree(true);
+		m.findNextMove(new ConnectFour(), 'X');
+		Path file = tempFile();
+		TreeSnapshot.write(m.getTree(), file);
+		assertSameTree(m.getTree().getRoot(), TreeSnapshot.read(file).getRoot());
+	}
+
+	@Test
+	public void testRoundTripWithTranspositions() throws IOException {
+		MCTS m = new MCTS(2000);
+		m.setReuseTree(true);
+		m.setTranspositionTableSize(4096);
+		m.findNextMove(new TicTacToe(), 'X');
+		Path file = tempFile();
+		TreeSnapshot.write(m.getTree(), file);
+		assertSameTree(m.getTree().getRoot(), TreeSnapshot.read(file).getRoot());
+	}
+
+	@Test
+	public void testWarmStart() throws IOException {
+		MCTS m = new MCTS(2000);
+		m.setReuseTree(true);
+		Ilayout move = m.findNextMove(new TicTacToe(), 'X');
+		Path file = tempFile();
+		TreeSnapshot.write(m.getTree(), file);
+
+		MCTS resumed = new MCTS(500);
+		resumed.setReuseTree(true);
+		resumed.setTree(TreeSnapshot.read(file));
+		MCTS.State loaded = resumed.getTree().getRoot();
+		int visits = loaded.getVisits();
+		assertTrue(visits > 0);
+		resumed.findNextMove(move, 'O');
+		assertTrue(loaded.getVisits() > visits);
+		assertTrue(loaded.getVisits() <= visits + 500);
+		assertTrue(loaded.getChildArray().contains(resumed.getTree().getRoot()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testReadRejectsOtherFiles() throws IOException {
+		Path file = tempFile();
+		Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+		TreeSnapshot.read(file);
+	}
+}
\ No newline at end of file